@@ -0,0 +1,425 @@
+package net.ocheyedan.uncial;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * User: blangel
+ * Date: 6/4/12
+ * Time: 7:48 AM
+ *
+ * A bounded queue of log events, backed by a {@link RingBuffer}, together with the single thread which drains it in
+ * batches into a {@link Sink}.  The queue is bounded both by the ring's capacity and by the budget of
+ * {@link UncialConfig#getMaxQueuedEvents()} and {@link UncialConfig#getMaxQueuedBytes()}; when over budget the
+ * {@link UncialConfig#getOverflowPolicy()} decides whether the producer waits, drops, fails or spills.  Once spilling,
+ * all events of the normal lane go to the {@link SpillFile} until the consumer, which replays the spill file only once
+ * the rings are empty, has caught up; so the order of events is kept.
+ * <p/>
+ * Events at or above {@link UncialConfig#getPriorityLevel()} travel in a separate, priority, lane which the consumer
+ * always drains before the normal lane (or, if {@link UncialConfig#isPrioritySynchronous()}, are handed to the sink
+ * directly on the logging thread).  Ordering is preserved within each lane.
+ */
+final class AsyncQueue {
+
+    /**
+     * The destination of the events drained from an {@link AsyncQueue}.
+     */
+    static interface Sink {
+
+        /**
+         * Only ever invoked by the queue's thread.
+         * @param batch of events to handle
+         * @param size the number of events within {@code batch} to handle
+         */
+        void handle(LogEvent[] batch, int size);
+
+        /**
+         * Handles a single event immediately on the calling thread, which may be any thread.
+         * @param meta of the event
+         * @param level of the event
+         * @param formattedMessage of the event
+         */
+        void handleNow(Meta meta, String level, String formattedMessage);
+
+        /**
+         * Invoked each time the queue's thread finds the queue empty (and so is about to wait); i.e., an opportunity to
+         * flush.  Only ever invoked by the queue's thread.
+         */
+        void idle();
+
+    }
+
+    /**
+     * The lane for events below the priority level.
+     */
+    private final RingBuffer normal;
+
+    /**
+     * The lane for events at or above the priority level.
+     */
+    private final RingBuffer priority;
+
+    private final Sink sink;
+
+    private final Thread consumer;
+
+    private final LogEvent[] batch;
+
+    /**
+     * The approximate bytes (length of formatted messages) of the events within both lanes.
+     */
+    private final AtomicLong queuedBytes = new AtomicLong(0L);
+
+    private final AtomicLong droppedEvents = new AtomicLong(0L);
+
+    private final AtomicLong droppedBytes = new AtomicLong(0L);
+
+    /**
+     * Guards {@link #spillFile}, {@link #spillUnavailable} and the writing of {@link #spilling}.
+     */
+    private final Object spillLock = new Object();
+
+    /**
+     * Created upon first spilling.
+     */
+    private volatile SpillFile spillFile;
+
+    /**
+     * Set if the spill file could not be created (or has been closed); events are no longer spilled.
+     */
+    private boolean spillUnavailable;
+
+    /**
+     * True from when an event is spilled until the consumer has replayed all spilled events; while set, all events of
+     * the normal lane are spilled.
+     */
+    private volatile boolean spilling;
+
+    private volatile boolean consumerWaiting;
+
+    private volatile boolean running = true;
+
+    /**
+     * Set if the consumer failed to drain the queue within the time given to {@link #awaitStopped(long)}; the consumer
+     * exits after its current batch.
+     */
+    private volatile boolean abandoned;
+
+    /**
+     * @param size the number of slots within the normal lane's ring (the priority lane is a quarter of this size)
+     * @param batchSize the maximum number of events handed to {@code sink} at once
+     * @param sink to which to hand drained events
+     */
+    AsyncQueue(int size, int batchSize, Sink sink) {
+        this(size, batchSize, DaemonThreadFactory.forConsumers(), sink);
+    }
+
+    /**
+     * @param size the number of slots within the normal lane's ring (the priority lane is a quarter of this size)
+     * @param batchSize the maximum number of events handed to {@code sink} at once
+     * @param threadFactory with which to create the consumer thread
+     * @param sink to which to hand drained events
+     */
+    AsyncQueue(int size, int batchSize, ThreadFactory threadFactory, Sink sink) {
+        this.normal = new RingBuffer(size);
+        this.priority = new RingBuffer(Math.max(1, size / 4));
+        this.sink = sink;
+        this.batch = new LogEvent[Math.max(1, batchSize)];
+        for (int i = 0; i < this.batch.length; i++) {
+            this.batch[i] = new LogEvent();
+        }
+        this.consumer = threadFactory.newThread(new Runnable() {
+            @Override public void run() {
+                try {
+                    consume();
+                } finally {
+                    closeSpill();
+                }
+            }
+        });
+        this.consumer.start();
+    }
+
+    /**
+     * Places the event on the queue subject to the configured {@link OverflowPolicy}.
+     * @param meta of the event
+     * @param level of the event
+     * @param formattedMessage of the event
+     * @throws IllegalStateException if over budget and the policy is {@link OverflowPolicy#FAIL}
+     */
+    void offer(Meta meta, String level, String formattedMessage) {
+        if (Thread.currentThread() == consumer) {
+            // the sink is itself logging; waiting on the ring from the consumer thread could never complete
+            sink.handleNow(meta, level, formattedMessage);
+            return;
+        }
+        UncialConfig config = UncialConfig.get();
+        String priorityLevel = config.getPriorityLevel();
+        boolean isPriority = ((priorityLevel != null) && (config.getLevelComparator().compare(level, priorityLevel) >= 0));
+        if (isPriority && config.isPrioritySynchronous()) {
+            sink.handleNow(meta, level, formattedMessage);
+            return;
+        }
+        RingBuffer lane = (isPriority ? priority : normal);
+        int bytes = LogEvent.messageLength(meta, formattedMessage);
+        if ((lane == normal) && (spilling || ((config.getOverflowPolicy() == OverflowPolicy.SPILL)
+                && isOverBudget(config, lane, bytes))) && spill(config, meta, level, formattedMessage, bytes)) {
+            if (consumerWaiting) {
+                LockSupport.unpark(consumer);
+            }
+            return;
+        }
+        if (!admit(config, lane, level, bytes)) {
+            return;
+        }
+        long position;
+        while ((position = lane.tryClaim()) == -1L) {
+            LockSupport.parkNanos(1000L); // full, give the consumer a chance to free a slot
+        }
+        queuedBytes.addAndGet(bytes);
+        lane.get(position).set(meta, level, formattedMessage);
+        lane.publish(position);
+        if (consumerWaiting) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    /**
+     * @return the number of events waiting to be handed to the sink.
+     */
+    int lag() {
+        SpillFile spillFile = this.spillFile;
+        return normal.size() + priority.size() + (spillFile == null ? 0 : spillFile.size());
+    }
+
+    /**
+     * @return the number of events dropped by this queue because it was over budget.
+     */
+    long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    /**
+     * @return the approximate bytes of events dropped by this queue because it was over budget.
+     */
+    long getDroppedBytes() {
+        return droppedBytes.get();
+    }
+
+    /**
+     * Stops the consumer thread once it has handed all events currently within the queue to the sink.  While stopping,
+     * the consumer drains as fast as possible; it neither waits nor flushes the sink.
+     */
+    void stop() {
+        running = false;
+        LockSupport.unpark(consumer);
+    }
+
+    /**
+     * Waits for the consumer thread to terminate after a call to {@link #stop()}, abandoning the events it has not
+     * drained within {@code timeoutNanos}.  Returns immediately if invoked by the consumer thread itself.
+     * @param timeoutNanos the maximum time to wait; {@link Long#MAX_VALUE} to wait indefinitely
+     * @return the number of events abandoned
+     */
+    int awaitStopped(long timeoutNanos) {
+        if (DaemonThreadFactory.join(consumer, timeoutNanos)) {
+            return 0;
+        }
+        abandoned = true;
+        return lag();
+    }
+
+    /**
+     * @param thread to check
+     * @return true if {@code thread} is this queue's consumer thread
+     */
+    boolean isConsumer(Thread thread) {
+        return (consumer == thread);
+    }
+
+    /**
+     * Applies the configured {@link OverflowPolicy} if the queue is over budget.
+     * @param config the current configuration
+     * @param lane into which the event is to be placed
+     * @param level of the event to admit
+     * @param bytes approximate size of the event to admit
+     * @return true if the event should be placed on {@code lane}; false if it has been dropped
+     * @throws IllegalStateException if over budget and the policy is {@link OverflowPolicy#FAIL}
+     */
+    private boolean admit(UncialConfig config, RingBuffer lane, String level, int bytes) {
+        if (!isOverBudget(config, lane, bytes)) {
+            return true;
+        }
+        switch (config.getOverflowPolicy()) {
+            case FAIL:
+                dropped(config, bytes);
+                throw new IllegalStateException(String.format("Log queue is full [ %d events, %d bytes ].",
+                        lag(), queuedBytes.get()));
+            case DROP_BELOW_LEVEL:
+                if (config.getLevelComparator().compare(level, config.getOverflowLevel()) < 0) {
+                    dropped(config, bytes);
+                    return false;
+                }
+                break;
+            case DROP_OLDEST:
+                // prefer discarding from the normal lane (unless it is the priority lane itself which is full), the
+                // priority lane only sheds its own events
+                RingBuffer discardFrom = (lane.size() >= lane.capacity() ? lane : normal);
+                int discarded;
+                while (isOverBudget(config, lane, bytes)) {
+                    if ((discarded = discardFrom.discardOldest()) == -1) {
+                        if (discardFrom == lane) {
+                            break;
+                        }
+                        discardFrom = lane;
+                        continue;
+                    }
+                    queuedBytes.addAndGet(-discarded);
+                    dropped(config, discarded);
+                }
+                return true;
+            default:
+                break;
+        }
+        while (isOverBudget(config, lane, bytes)) {
+            LockSupport.parkNanos(1000L); // give the consumer a chance to drain
+        }
+        return true;
+    }
+
+    /**
+     * Appends the event to the spill file if already spilling or if the normal lane is (still) over budget, waiting
+     * while the spill file is full.
+     * @return true if the event was spilled; false if it should be placed on the normal lane
+     */
+    private boolean spill(UncialConfig config, Meta meta, String level, String formattedMessage, int bytes) {
+        for (;;) {
+            synchronized (spillLock) {
+                if (spillUnavailable || (!spilling && !isOverBudget(config, normal, bytes))) {
+                    return false;
+                }
+                if (spillFile == null) {
+                    spillFile = SpillFile.create(config.getSpillDirectory(), config.getMaxSpillBytes());
+                    if (spillFile == null) {
+                        spillUnavailable = true;
+                        return false;
+                    }
+                }
+                if (spillFile.append(meta, level, formattedMessage)) {
+                    spilling = true;
+                    return true;
+                } else if (spillFile.isEmpty()) {
+                    return false; // larger than the spill file itself
+                }
+            }
+            LockSupport.parkNanos(1000L); // full, give the consumer a chance to replay
+        }
+    }
+
+    /**
+     * To be called only by the consumer and only once both lanes are empty.
+     * @return the number of spilled events set into {@link #batch}
+     */
+    private int replay() {
+        synchronized (spillLock) {
+            SpillFile spillFile = this.spillFile;
+            int size = (spillFile == null ? 0 : spillFile.drainTo(batch));
+            if ((spillFile == null) || spillFile.isEmpty()) {
+                spilling = false;
+            }
+            return size;
+        }
+    }
+
+    private void closeSpill() {
+        synchronized (spillLock) {
+            spillUnavailable = true;
+            spilling = false;
+            if (spillFile != null) {
+                spillFile.close();
+            }
+        }
+    }
+
+    private boolean isOverBudget(UncialConfig config, RingBuffer lane, int bytes) {
+        if ((lane.size() >= lane.capacity()) || (lag() >= config.getMaxQueuedEvents())) {
+            return true;
+        }
+        long queued = queuedBytes.get();
+        // always allow a single event, no matter its size, onto an empty queue
+        return ((queued > 0L) && ((queued + bytes) > config.getMaxQueuedBytes()));
+    }
+
+    private void dropped(UncialConfig config, int bytes) {
+        droppedEvents.incrementAndGet();
+        droppedBytes.addAndGet(bytes);
+        config.dropped(bytes);
+    }
+
+    private boolean isEmpty() {
+        return (priority.isEmpty() && normal.isEmpty() && !spilling);
+    }
+
+    private void consume() {
+        int idleCount = 0;
+        for (;;) {
+            if (abandoned) {
+                return;
+            }
+            // the priority lane is always drained before the normal lane
+            int size = priority.drainTo(batch);
+            if (size == 0) {
+                size = normal.drainTo(batch);
+            }
+            // spilled events are newer than any within the normal lane (other than those of concurrent producers); so
+            // replay only once it is empty, including of claimed but not yet published events (which isEmpty() does
+            // not see but size() counts)
+            boolean replayed = false;
+            if ((size == 0) && spilling && (normal.size() == 0)) {
+                size = replay();
+                replayed = true;
+            }
+            if (size == 0) {
+                if (!running) {
+                    return;
+                }
+                try {
+                    sink.idle();
+                } catch (RuntimeException re) {
+                    System.err.println(re.getMessage());
+                }
+                WaitStrategy waitStrategy = UncialConfig.get().getWaitStrategy();
+                if (waitStrategy.requiresSignal()) {
+                    consumerWaiting = true;
+                    if (isEmpty() && running) {
+                        waitStrategy.idle(this, idleCount);
+                    }
+                    consumerWaiting = false;
+                } else {
+                    waitStrategy.idle(this, idleCount);
+                }
+                idleCount++;
+                continue;
+            }
+            idleCount = 0;
+            if (!replayed) {
+                long bytes = 0L;
+                for (int i = 0; i < size; i++) {
+                    bytes += LogEvent.messageLength(batch[i], batch[i].formattedMessage);
+                }
+                queuedBytes.addAndGet(-bytes);
+            }
+            try {
+                sink.handle(batch, size);
+            } catch (RuntimeException re) {
+                System.err.println(re.getMessage());
+            } finally {
+                for (int i = 0; i < size; i++) {
+                    batch[i].clear();
+                }
+            }
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package net.ocheyedan.uncial;
 
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 
 /**
  * User: blangel
@@ -18,4 +19,44 @@ class DaemonThreadFactory implements ThreadFactory {
         return defaultThread;
     }
 
+    /**
+     * @return the factory for the threads which hand log events to the appenders; creating virtual threads if the
+     *         system property {@literal uncial.virtualThreadConsumer} is specified (and the {@literal JVM} supports them).
+     */
+    static ThreadFactory forConsumers() {
+        return (Boolean.getBoolean("uncial.virtualThreadConsumer") ? new VirtualThreadFactory() : new DaemonThreadFactory());
+    }
+
+    /**
+     * Waits, uninterruptibly, for {@code thread} to terminate (unless it is the calling thread).
+     * @param thread to wait upon
+     * @param timeoutNanos the maximum time to wait; {@link Long#MAX_VALUE} to wait indefinitely
+     * @return false if {@code thread} is still alive after waiting {@code timeoutNanos}
+     */
+    static boolean join(Thread thread, long timeoutNanos) {
+        if ((thread == null) || (thread == Thread.currentThread())) {
+            return true;
+        }
+        long start = System.nanoTime();
+        boolean interrupted = false;
+        try {
+            while (thread.isAlive()) {
+                long remaining = timeoutNanos - (System.nanoTime() - start);
+                if (remaining <= 0L) {
+                    return false;
+                }
+                try {
+                    TimeUnit.NANOSECONDS.timedJoin(thread, remaining);
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                }
+            }
+            return true;
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
 }
@@ -0,0 +1,147 @@
+package net.ocheyedan.uncial;
+
+/**
+ * User: blangel
+ * Date: 6/9/12
+ * Time: 10:12 AM
+ *
+ * How log events are handed from the logging threads to the {@link net.ocheyedan.uncial.appender.Appender} objects.
+ * The initial distribution is chosen via system properties (see {@link #fromSystemProperties()}) and may be changed
+ * while running via {@link UncialConfig#setDistribution(Distribution)}.  The sizing system properties
+ * ({@literal uncial.ringBufferSize}, {@literal uncial.batchSize}, {@literal uncial.stripeSize} and
+ * {@literal uncial.formattingThreads}) are read each time a distribution is put into effect.
+ */
+public enum Distribution {
+
+    /**
+     * Events are handed to the appenders on the logging thread, with each appender guarded by a lock upon which waiting
+     * virtual threads unmount from their carrier thread (rather than pinning it, as waiting on a monitor would).
+     */
+    SINGLE_THREADED {
+        @Override Distributor create() {
+            return new Distributor.InvokingThread();
+        }
+    },
+
+    /**
+     * Events are handed to the appenders on a logging thread; under contention the first thread to acquire the appenders
+     * hands over the events of all waiting threads as one batch.
+     */
+    FLAT_COMBINING {
+        @Override Distributor create() {
+            return new Distributor.Combining();
+        }
+    },
+
+    /**
+     * As {@link #RING_BUFFER} but the thread handing events to the appenders is a virtual thread (a daemon platform
+     * thread if the {@literal JVM} does not support them); for applications logging from virtual threads.  Logging
+     * threads never wait upon the appenders, only (per the overflow policy) for space in the ring, and the appender
+     * thread holds a carrier thread only while handing over events.  Pair with a {@link WaitStrategy} which parks
+     * (e.g., {@link WaitStrategy#BLOCKING}); a spinning appender thread keeps its carrier thread busy.
+     */
+    VIRTUAL_THREADS {
+        @Override Distributor create() {
+            return new Distributor.RingBufferThread(
+                    Integer.getInteger("uncial.ringBufferSize", Distributor.RingBufferThread.DEFAULT_SIZE),
+                    Integer.getInteger("uncial.batchSize", Distributor.RingBufferThread.DEFAULT_BATCH_SIZE),
+                    new VirtualThreadFactory());
+        }
+    },
+
+    /**
+     * Events are handed to a separate thread via an executor, reusing pooled events.  The executor's queue still
+     * allocates a node per event and, while the appender thread contends for them, the locks of the queue and of the
+     * pool allocate the nodes upon which threads wait; over a hundred bytes per event when the appender thread is busy
+     * (see {@link #RING_BUFFER}).  The queue is unbounded; the overflow policy and queue budget (see
+     * {@link UncialConfig#setOverflowPolicy(OverflowPolicy)}) are not applied.
+     */
+    SEPARATE_THREAD {
+        @Override Distributor create() {
+            return new Distributor.SeparateThread();
+        }
+    },
+
+    /**
+     * Events are handed to a separate thread via a preallocated ring buffer, bounded by the overflow policy and queue
+     * budget (see {@link UncialConfig#setOverflowPolicy(OverflowPolicy)}).  The default.  Once warmed up, handing over
+     * an event allocates nothing on the logging thread; formatting its message there does, unless deferred (see
+     * {@link UncialConfig#setDeferredFormatting(boolean)}), as does copying more than four deferred parameters.
+     */
+    RING_BUFFER {
+        @Override Distributor create() {
+            return new Distributor.RingBufferThread(
+                    Integer.getInteger("uncial.ringBufferSize", Distributor.RingBufferThread.DEFAULT_SIZE),
+                    Integer.getInteger("uncial.batchSize", Distributor.RingBufferThread.DEFAULT_BATCH_SIZE));
+        }
+    },
+
+    /**
+     * Events are handed to a separate thread per appender, each via its own preallocated ring buffer bounded by the
+     * overflow policy and queue budget.
+     */
+    PER_APPENDER_THREADS {
+        @Override Distributor create() {
+            return new Distributor.PerAppenderThreads(
+                    Integer.getInteger("uncial.ringBufferSize", Distributor.RingBufferThread.DEFAULT_SIZE),
+                    Integer.getInteger("uncial.batchSize", Distributor.RingBufferThread.DEFAULT_BATCH_SIZE));
+        }
+    },
+
+    /**
+     * Events are formatted by a pool of threads and handed, in order, to the appenders by a separate thread; via a
+     * preallocated ring buffer.  The overflow policy and queue budget are not applied; when the ring is full the
+     * logging thread waits for a slot.
+     */
+    PARALLEL_FORMATTING {
+        @Override Distributor create() {
+            return new Distributor.ParallelFormatting(
+                    Integer.getInteger("uncial.ringBufferSize", Distributor.RingBufferThread.DEFAULT_SIZE),
+                    Integer.getInteger("uncial.formattingThreads",
+                            Distributor.ParallelFormatting.DEFAULT_FORMATTING_THREADS));
+        }
+    },
+
+    /**
+     * Events are handed to a separate thread via a buffer per logging thread.  The overflow policy and queue budget are
+     * not applied; when its buffer is full the logging thread waits for a slot.
+     */
+    STRIPED {
+        @Override Distributor create() {
+            return new Distributor.StripedThreads(
+                    Integer.getInteger("uncial.stripeSize", Distributor.StripedThreads.DEFAULT_STRIPE_SIZE),
+                    Integer.getInteger("uncial.batchSize", Distributor.RingBufferThread.DEFAULT_BATCH_SIZE));
+        }
+    };
+
+    /**
+     * @return a new {@link Distributor} for this distribution.
+     */
+    abstract Distributor create();
+
+    /**
+     * @return the distribution specified by the system properties {@literal uncial.singleThreaded},
+     *         {@literal uncial.virtualThreads}, {@literal uncial.perAppenderThreads}, {@literal uncial.striped},
+     *         {@literal uncial.parallelFormatting} and {@literal uncial.separateThread} (checked in that order),
+     *         defaulting to {@link #RING_BUFFER}.
+     *         Single-threaded distribution is flat-combining if {@literal uncial.flatCombining} is also specified.
+     */
+    static Distribution fromSystemProperties() {
+        if (Boolean.getBoolean("uncial.singleThreaded")) {
+            return (Boolean.getBoolean("uncial.flatCombining") ? FLAT_COMBINING : SINGLE_THREADED);
+        } else if (Boolean.getBoolean("uncial.virtualThreads")) {
+            return VIRTUAL_THREADS;
+        } else if (Boolean.getBoolean("uncial.perAppenderThreads")) {
+            return PER_APPENDER_THREADS;
+        } else if (Boolean.getBoolean("uncial.striped")) {
+            return STRIPED;
+        } else if (Boolean.getBoolean("uncial.parallelFormatting")) {
+            return PARALLEL_FORMATTING;
+        } else if (Boolean.getBoolean("uncial.separateThread")) {
+            return SEPARATE_THREAD;
+        } else {
+            return RING_BUFFER;
+        }
+    }
+
+}
@@ -1,9 +1,28 @@
 package net.ocheyedan.uncial;
 
+import net.ocheyedan.uncial.appender.Appender;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * User: blangel
@@ -18,71 +37,1353 @@ interface Distributor {
 
     /**
      * Process the log message on a separate thread, managed and created by this class.
+     * <p/>
+     * The {@link Runnable} (and its {@link LogEvent}) handed to the executor for each event is taken from, and once run
+     * returned to, a pool of up to {@link #POOL_SIZE} instances so that in the steady state none is allocated per event.
+     * The executor's unbounded queue still allocates a node per event and, while the appender thread contends for
+     * them, the locks of the queue and of the pool allocate the nodes upon which threads wait;
+     * {@link Distribution#RING_BUFFER} allocates nothing per event.
      */
     static final class SeparateThread implements Distributor {
 
+        /**
+         * The maximum number of idle {@link Runner} instances kept for reuse; beyond those in flight are allocated and
+         * left to the garbage collector.
+         */
+        static final int POOL_SIZE = 1024;
+
         private static final class Runner implements Runnable {
-            private final Meta meta;
-            private final String level;
-            private final String formattedMessage;
+            private final LogEvent event = new LogEvent();
             private final InvokingThread delegate;
-            private Runner(Meta meta, String level, String formattedMessage, InvokingThread delegate) {
-                this.meta = meta;
-                this.level = level;
-                this.formattedMessage = formattedMessage;
+            private final ThreadPoolExecutor executor;
+            private final BlockingQueue<Runner> pool;
+            private Runner(InvokingThread delegate, ThreadPoolExecutor executor, BlockingQueue<Runner> pool) {
                 this.delegate = delegate;
+                this.executor = executor;
+                this.pool = pool;
+            }
+            private Runner set(Meta meta, String level, String formattedMessage) {
+                this.event.set(meta, level, formattedMessage); // the caller may reuse meta once distribute returns
+                return this;
             }
             @Override public void run() {
-                delegate.distribute(meta, level, formattedMessage);
+                try {
+                    delegate.distribute(event, event.level, event.formattedMessage);
+                    // not flushed while stopping (see Distributor#stop)
+                    if (executor.getQueue().isEmpty() && !executor.isShutdown()) {
+                        delegate.idle();
+                    }
+                } finally {
+                    event.clear();
+                    pool.offer(this);
+                }
             }
         }
 
-        private static final ExecutorService logEventExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory());
+        private final ThreadPoolExecutor logEventExecutor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+            private final ThreadFactory threadFactory = DaemonThreadFactory.forConsumers();
+            @Override public Thread newThread(Runnable r) {
+                Thread thread = threadFactory.newThread(r);
+                executorThread = thread;
+                return thread;
+            }
+        });
 
         private final InvokingThread delegate = new InvokingThread();
 
+        /**
+         * Idle {@link Runner} instances; array backed so that taking and returning one allocates nothing (unless its lock
+         * is contended).
+         */
+        private final BlockingQueue<Runner> runners = new ArrayBlockingQueue<Runner>(POOL_SIZE);
+
+        private volatile Thread executorThread;
+
+        /**
+         * Flushes, on the executor's thread, the appenders whose unflushed output is over age.
+         */
+        private final Runnable flushIfDue = new Runnable() {
+            @Override public void run() {
+                delegate.flushIfDue();
+            }
+        };
+
         @Override public void distribute(Meta meta, String level, String formattedMessage) {
-            logEventExecutor.execute(new Runner(meta, level, formattedMessage, delegate));
+            Runner runner = runners.poll();
+            if (runner == null) {
+                runner = new Runner(delegate, logEventExecutor, runners);
+            }
+            logEventExecutor.execute(runner.set(meta, level, formattedMessage));
+        }
+
+        @Override public void flushIfDue() {
+            // only needed while idle, otherwise the executor's thread checks with each write
+            if (logEventExecutor.getQueue().isEmpty()) {
+                try {
+                    logEventExecutor.execute(flushIfDue);
+                } catch (RejectedExecutionException ree) {
+                    // stopped
+                }
+            }
+        }
+
+        @Override public int stop(long timeoutNanos) {
+            logEventExecutor.shutdown();
+            if (Thread.currentThread() == executorThread) {
+                return 0;
+            }
+            long start = System.nanoTime();
+            boolean interrupted = false;
+            try {
+                while (!logEventExecutor.isTerminated()) {
+                    long remaining = timeoutNanos - (System.nanoTime() - start);
+                    if (remaining <= 0L) {
+                        // abandon (rather than interrupt, which could close an appender's channel) what remains
+                        List<Runnable> abandoned = new ArrayList<Runnable>();
+                        logEventExecutor.getQueue().drainTo(abandoned);
+                        return abandoned.size();
+                    }
+                    try {
+                        logEventExecutor.awaitTermination(remaining, TimeUnit.NANOSECONDS);
+                    } catch (InterruptedException ie) {
+                        interrupted = true;
+                    }
+                }
+                return 0;
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        @Override public boolean owns(Thread thread) {
+            return (executorThread == thread);
+        }
+
+        @Override public boolean synchronous() {
+            return false;
         }
     }
 
     /**
-     * Handles the log message on the same thread, handling it instantly.
+     * Process the log message on a separate thread, managed and created by this class, handing messages to that thread
+     * via a preallocated {@link RingBuffer} (see {@link AsyncQueue}) rather than an {@link ExecutorService}.  Producers
+     * never allocate nor lock; they claim a slot, fill it in place and publish it.
      */
-    static class InvokingThread implements Distributor {
+    static final class RingBufferThread implements Distributor {
+
+        /**
+         * The default number of slots within the ring.
+         */
+        static final int DEFAULT_SIZE = 8192;
+
+        /**
+         * The default maximum number of events drained by the consumer and handed to the appenders as one batch.
+         */
+        static final int DEFAULT_BATCH_SIZE = 256;
+
+        private final InvokingThread delegate = new InvokingThread();
+
+        private final AsyncQueue queue;
+
+        /**
+         * @param size the number of slots within the ring
+         * @param batchSize the maximum number of events handed to the appenders at once
+         */
+        RingBufferThread(int size, int batchSize) {
+            this(size, batchSize, DaemonThreadFactory.forConsumers());
+        }
+
+        /**
+         * @param size the number of slots within the ring
+         * @param batchSize the maximum number of events handed to the appenders at once
+         * @param threadFactory with which to create the thread handing events to the appenders
+         */
+        RingBufferThread(int size, int batchSize, ThreadFactory threadFactory) {
+            this.queue = new AsyncQueue(size, batchSize, threadFactory, new AsyncQueue.Sink() {
+                @Override public void handle(LogEvent[] batch, int size) {
+                    delegate.distribute(batch, size);
+                }
+                @Override public void handleNow(Meta meta, String level, String formattedMessage) {
+                    delegate.distribute(meta, level, formattedMessage);
+                }
+                @Override public void idle() {
+                    delegate.idle();
+                }
+            });
+        }
+
+        @Override public void distribute(Meta meta, String level, String formattedMessage) {
+            queue.offer(meta, level, formattedMessage);
+        }
+
+        @Override public void flushIfDue() {
+            // the queue's thread checks whenever idle
+        }
+
+        @Override public int stop(long timeoutNanos) {
+            queue.stop();
+            return queue.awaitStopped(timeoutNanos);
+        }
+
+        @Override public boolean owns(Thread thread) {
+            return queue.isConsumer(thread);
+        }
+
+        @Override public boolean synchronous() {
+            return false;
+        }
+    }
+
+    /**
+     * Process the log message on separate threads, one per {@link net.ocheyedan.uncial.appender.Appender}, each with
+     * its own bounded {@link AsyncQueue}.  Events are fanned out to every appender's queue at the time of logging so
+     * that a slow appender (e.g., a console blocked on a full pipe) only delays and drops its own events.  Note, with
+     * {@link OverflowPolicy#BLOCK} a slow appender whose queue is over budget will still block the logging threads (and
+     * so indirectly the other appenders); pair this distributor with a dropping policy for full isolation.
+     */
+    static final class PerAppenderThreads implements Distributor {
+
+        private final ConcurrentMap<Appender, AsyncQueue> queues = new ConcurrentHashMap<Appender, AsyncQueue>(2, 1.0f);
+
+        private final int size;
+
+        private final int batchSize;
+
+        /**
+         * @param size the number of slots within each appender's ring
+         * @param batchSize the maximum number of events handed to an appender at once
+         */
+        PerAppenderThreads(int size, int batchSize) {
+            this.size = size;
+            this.batchSize = batchSize;
+        }
+
+        @Override public void distribute(Meta meta, String level, String formattedMessage) {
+            // the groups are arrays, iterating them allocates nothing (unlike iterating the configurations)
+            int configured = 0;
+            for (UncialConfig.AppenderGroup appenderGroup : UncialConfig.get().getAppenderGroups()) {
+                for (UncialConfig.AppenderConfig appenderConfig : appenderGroup.appenderConfigs) {
+                    AsyncQueue queue = queues.get(appenderConfig.appender);
+                    if (queue == null) {
+                        queue = create(appenderConfig.appender);
+                    }
+                    queue.offer(meta, level, formattedMessage);
+                    configured++;
+                }
+            }
+            if (queues.size() > configured) {
+                retire(UncialConfig.get().getAppenderConfigs());
+            }
+        }
+
+        @Override public void flushIfDue() {
+            // each queue's thread checks whenever idle
+        }
+
+        @Override public synchronized int stop(long timeoutNanos) {
+            // stop all first so that the queues drain concurrently
+            for (AsyncQueue queue : queues.values()) {
+                queue.stop();
+            }
+            long start = System.nanoTime();
+            int abandoned = 0;
+            for (Appender appender : queues.keySet()) {
+                long remaining = Math.max(0L, timeoutNanos - (System.nanoTime() - start));
+                abandoned += queues.remove(appender).awaitStopped(remaining);
+                UncialConfig.get().unregister(appender);
+            }
+            return abandoned;
+        }
+
+        @Override public boolean owns(Thread thread) {
+            for (AsyncQueue queue : queues.values()) {
+                if (queue.isConsumer(thread)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override public boolean synchronous() {
+            return false;
+        }
+
+        private synchronized AsyncQueue create(final Appender appender) {
+            AsyncQueue queue = queues.get(appender);
+            if (queue != null) {
+                return queue;
+            }
+            queue = new AsyncQueue(size, batchSize, new AsyncQueue.Sink() {
+                private final StringBuilder buffer = new StringBuilder();
+                @Override public void handle(LogEvent[] batch, int size) {
+                    // resolve per batch, the appender's format may have changed
+                    UncialConfig.AppenderConfig appenderConfig = UncialConfig.get().getAppenderConfig(appender);
+                    if (appenderConfig != null) {
+                        InvokingThread.distribute(appenderConfig, batch, size, buffer);
+                    }
+                }
+                @Override public void handleNow(Meta meta, String level, String formattedMessage) {
+                    UncialConfig.AppenderConfig appenderConfig = UncialConfig.get().getAppenderConfig(appender);
+                    if (appenderConfig != null) {
+                        appenderConfig.handle(appenderConfig.format(meta, level, formattedMessage));
+                    }
+                }
+                @Override public void idle() {
+                    UncialConfig.AppenderConfig appenderConfig = UncialConfig.get().getAppenderConfig(appender);
+                    if (appenderConfig != null) {
+                        appenderConfig.idle();
+                    }
+                }
+            });
+            queues.put(appender, queue);
+            UncialConfig.get().register(appender, queue);
+            return queue;
+        }
+
+        /**
+         * Stops the queues of appenders which have been replaced within the configuration.
+         * @param appenderConfigs the current configuration
+         */
+        private synchronized void retire(Collection<UncialConfig.AppenderConfig> appenderConfigs) {
+            for (Appender appender : queues.keySet()) {
+                boolean configured = false;
+                for (UncialConfig.AppenderConfig appenderConfig : appenderConfigs) {
+                    if (appenderConfig.appender == appender) {
+                        configured = true;
+                        break;
+                    }
+                }
+                if (!configured) {
+                    queues.remove(appender).stop();
+                    UncialConfig.get().unregister(appender);
+                }
+            }
+        }
+    }
+
+    /**
+     * Process the log message on a separate thread, managed and created by this class, with each logging thread handing
+     * messages to that thread via its own {@link ProducerBuffer} (found through a {@link ThreadLocal}).  Logging threads
+     * therefore never contend with one another.  The consumer merges the buffers, ordering the events available at
+     * the time by {@link Meta#invokingEpochTime()} before handing them to the appenders in batches; each buffer's events
+     * keep their order and events of different buffers logged within the same millisecond are ordered by buffer (the
+     * order in which their threads first logged), not by when they were logged.  If a logging thread's buffer is full,
+     * that thread waits for the consumer.
+     */
+    static final class StripedThreads implements Distributor {
+
+        /**
+         * The default number of slots within each logging thread's buffer.
+         */
+        static final int DEFAULT_STRIPE_SIZE = 1024;
+
+        private final InvokingThread delegate = new InvokingThread();
+
+        private final ThreadLocal<ProducerBuffer> buffer = new ThreadLocal<ProducerBuffer>() {
+            @Override protected ProducerBuffer initialValue() {
+                return register(Thread.currentThread());
+            }
+        };
+
+        /**
+         * Copy-on-write array of all registered buffers; an array (rather than a collection) so that the consumer may
+         * iterate without allocating.
+         */
+        private volatile ProducerBuffer[] buffers = new ProducerBuffer[0];
+
+        private final int stripeSize;
+
+        private final Thread consumer;
+
+        private final LogEvent[] batch;
+
+        private int nextId;
+
+        private volatile boolean consumerWaiting;
+
+        private volatile boolean running = true;
+
+        /**
+         * Set if the consumer failed to drain the buffers within the time given to {@link #stop(long)}; the consumer
+         * exits after its current batch.
+         */
+        private volatile boolean abandoned;
 
         /**
-         * Install a {@literal JVM} shutdown hook to ensure the appender objects get a chance to flush.
+         * @param stripeSize the number of slots within each logging thread's buffer
+         * @param batchSize the maximum number of events handed to the appenders at once
          */
-        InvokingThread() {
-            Thread flusher = new Thread(new Runnable() {
+        StripedThreads(int stripeSize, int batchSize) {
+            this.stripeSize = stripeSize;
+            this.batch = new LogEvent[Math.max(1, batchSize)];
+            for (int i = 0; i < this.batch.length; i++) {
+                this.batch[i] = new LogEvent();
+            }
+            this.consumer = DaemonThreadFactory.forConsumers().newThread(new Runnable() {
                 @Override public void run() {
-                    Collection<UncialConfig.AppenderConfig> appenderConfigs = UncialConfig.get().getAppenderConfigs();
-                    for (UncialConfig.AppenderConfig appenderConfig : appenderConfigs) {
-                        appenderConfig.appender.close();
+                    consume();
+                }
+            });
+            this.consumer.start();
+        }
+
+        @Override public void distribute(Meta meta, String level, String formattedMessage) {
+            if (Thread.currentThread() == consumer) {
+                // an appender is itself logging; waiting on a buffer from the consumer thread could never complete
+                delegate.distribute(meta, level, formattedMessage);
+                return;
+            }
+            ProducerBuffer producerBuffer = buffer.get();
+            while (!producerBuffer.offer(meta, level, formattedMessage)) {
+                LockSupport.parkNanos(1000L); // full, give the consumer a chance to free a slot
+            }
+            if (consumerWaiting) {
+                LockSupport.unpark(consumer);
+            }
+        }
+
+        @Override public void flushIfDue() {
+            // the consumer checks whenever idle
+        }
+
+        @Override public int stop(long timeoutNanos) {
+            running = false;
+            LockSupport.unpark(consumer);
+            if (DaemonThreadFactory.join(consumer, timeoutNanos)) {
+                return 0;
+            }
+            abandoned = true;
+            int remaining = 0;
+            for (ProducerBuffer producerBuffer : buffers) {
+                remaining += producerBuffer.size();
+            }
+            return remaining;
+        }
+
+        @Override public boolean owns(Thread thread) {
+            return (consumer == thread);
+        }
+
+        @Override public boolean synchronous() {
+            return false;
+        }
+
+        private synchronized ProducerBuffer register(Thread owner) {
+            ProducerBuffer producerBuffer = new ProducerBuffer(stripeSize, owner, nextId++);
+            ProducerBuffer[] current = buffers;
+            ProducerBuffer[] updated = new ProducerBuffer[current.length + 1];
+            System.arraycopy(current, 0, updated, 0, current.length);
+            updated[current.length] = producerBuffer;
+            buffers = updated;
+            return producerBuffer;
+        }
+
+        /**
+         * Removes the buffers of terminated logging threads.
+         */
+        private synchronized void prune() {
+            ProducerBuffer[] current = buffers;
+            int abandoned = 0;
+            for (ProducerBuffer producerBuffer : current) {
+                if (producerBuffer.isAbandoned()) {
+                    abandoned++;
+                }
+            }
+            if (abandoned == 0) {
+                return;
+            }
+            ProducerBuffer[] updated = new ProducerBuffer[current.length - abandoned];
+            int index = 0;
+            for (ProducerBuffer producerBuffer : current) {
+                if (!producerBuffer.isAbandoned()) {
+                    updated[index++] = producerBuffer;
+                }
+            }
+            buffers = updated;
+        }
+
+        /**
+         * Fills {@link #batch} with the oldest available events across all buffers, in order.
+         * @return the number of events placed into {@link #batch}
+         */
+        private int merge() {
+            ProducerBuffer[] current = buffers;
+            int size = 0;
+            while (size < batch.length) {
+                ProducerBuffer next = null;
+                LogEvent nextEvent = null;
+                for (ProducerBuffer producerBuffer : current) {
+                    LogEvent event = producerBuffer.peek();
+                    if ((event != null) && ((nextEvent == null) || isBefore(event, producerBuffer, nextEvent, next))) {
+                        next = producerBuffer;
+                        nextEvent = event;
                     }
                 }
+                if (next == null) {
+                    break;
+                }
+                batch[size].set(nextEvent, nextEvent.level, nextEvent.formattedMessage);
+                next.advance();
+                size++;
+            }
+            return size;
+        }
+
+        /**
+         * @return true if {@code event}, the oldest event of {@code from}, is to be handed to the appenders before
+         *         {@code other}, the oldest event of {@code otherFrom}; by time then by the order in which the
+         *         buffers were registered
+         */
+        static boolean isBefore(LogEvent event, ProducerBuffer from, LogEvent other, ProducerBuffer otherFrom) {
+            long time = event.epochTime;
+            long otherTime = other.epochTime;
+            if (time != otherTime) {
+                return (time < otherTime);
+            }
+            return (from.id < otherFrom.id);
+        }
+
+        private boolean isEmpty() {
+            for (ProducerBuffer producerBuffer : buffers) {
+                if (producerBuffer.peek() != null) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void consume() {
+            int idleCount = 0;
+            for (;;) {
+                if (abandoned) {
+                    return;
+                }
+                int size = merge();
+                if (size == 0) {
+                    if (!running) {
+                        return;
+                    }
+                    if (idleCount == 0) {
+                        prune();
+                    }
+                    try {
+                        delegate.idle();
+                    } catch (RuntimeException re) {
+                        System.err.println(re.getMessage());
+                    }
+                    WaitStrategy waitStrategy = UncialConfig.get().getWaitStrategy();
+                    if (waitStrategy.requiresSignal()) {
+                        consumerWaiting = true;
+                        if (isEmpty() && running) {
+                            waitStrategy.idle(this, idleCount);
+                        }
+                        consumerWaiting = false;
+                    } else {
+                        waitStrategy.idle(this, idleCount);
+                    }
+                    idleCount++;
+                    continue;
+                }
+                idleCount = 0;
+                try {
+                    delegate.distribute(batch, size);
+                } catch (RuntimeException re) {
+                    System.err.println(re.getMessage());
+                } finally {
+                    for (int i = 0; i < size; i++) {
+                        batch[i].clear();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Process the log message on separate threads, managed and created by this class, so that the appenders' formats
+     * are applied in parallel.  Each event is stamped with a sequence number as it is placed within a preallocated ring,
+     * formatted (for every appender) by one of a pool of formatting threads (each taking every n-th sequence) and then
+     * handed to the appenders, in sequence order, by a single writer thread.  The order in which each appender sees the
+     * events is therefore that of the ring while the cost of formatting is spread across cores.  If the ring is full,
+     * the logging thread waits for the writer.
+     */
+    static final class ParallelFormatting implements Distributor {
+
+        /**
+         * The default number of formatting threads.
+         */
+        static final int DEFAULT_FORMATTING_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+        /**
+         * A slot within the ring; reused for every event whose sequence maps to it.
+         */
+        private static final class Slot {
+
+            private final LogEvent event = new LogEvent();
+
+            /**
+             * The appenders for which the event was formatted, paired by index with {@link #messages}.
+             */
+            private UncialConfig.AppenderConfig[] appenderConfigs = new UncialConfig.AppenderConfig[2];
+
+            private String[] messages = new String[2];
+
+            private int count;
+
+            /**
+             * The sequence of the event within the slot, once it has been set by its producer.
+             */
+            private volatile long published = -1L;
+
+            /**
+             * The sequence of the event within the slot, once it has been formatted.
+             */
+            private volatile long formatted = -1L;
+
+            private void add(UncialConfig.AppenderConfig appenderConfig, String message) {
+                if (count == appenderConfigs.length) {
+                    appenderConfigs = Arrays.copyOf(appenderConfigs, count * 2);
+                    messages = Arrays.copyOf(messages, count * 2);
+                }
+                appenderConfigs[count] = appenderConfig;
+                messages[count] = message;
+                count++;
+            }
+
+            private void clear() {
+                event.clear();
+                for (int i = 0; i < count; i++) {
+                    appenderConfigs[i] = null;
+                    messages[i] = null;
+                }
+                count = 0;
+            }
+        }
+
+        private final InvokingThread delegate = new InvokingThread();
+
+        private final Slot[] slots;
+
+        private final int mask;
+
+        /**
+         * The next sequence to be claimed by a logging thread.
+         */
+        private final AtomicLong next = new AtomicLong(0L);
+
+        /**
+         * The sequence before which all events have been handed to the appenders; written only by the writer.
+         */
+        private volatile long written;
+
+        private final Thread[] formatters;
+
+        /**
+         * Whether each of the {@link #formatters} is waiting (1) or not (0).
+         */
+        private final AtomicIntegerArray formattersWaiting;
+
+        private final Thread writer;
+
+        private volatile boolean writerWaiting;
+
+        private volatile boolean running = true;
+
+        /**
+         * Set if the writer failed to hand all events to the appenders within the time given to {@link #stop(long)};
+         * the threads exit after their current event.
+         */
+        private volatile boolean abandoned;
+
+        /**
+         * @param size the number of slots within the ring; rounded up to the nearest power of two
+         * @param formattingThreads the number of threads formatting events
+         */
+        ParallelFormatting(int size, int formattingThreads) {
+            int capacity = Integer.highestOneBit(Math.max(1, size));
+            if (capacity < size) {
+                capacity = capacity << 1;
+            }
+            this.slots = new Slot[capacity];
+            for (int i = 0; i < capacity; i++) {
+                this.slots[i] = new Slot();
+            }
+            this.mask = capacity - 1;
+            ThreadFactory threadFactory = DaemonThreadFactory.forConsumers();
+            this.formatters = new Thread[Math.max(1, formattingThreads)];
+            this.formattersWaiting = new AtomicIntegerArray(this.formatters.length);
+            for (int i = 0; i < this.formatters.length; i++) {
+                final int formatter = i;
+                this.formatters[i] = threadFactory.newThread(new Runnable() {
+                    @Override public void run() {
+                        format(formatter);
+                    }
+                });
+            }
+            this.writer = threadFactory.newThread(new Runnable() {
+                @Override public void run() {
+                    write();
+                }
             });
-            flusher.setDaemon(true);
-            Runtime.getRuntime().addShutdownHook(flusher);
+            for (Thread formatter : this.formatters) {
+                formatter.start();
+            }
+            this.writer.start();
         }
 
         @Override public void distribute(Meta meta, String level, String formattedMessage) {
+            if (owns(Thread.currentThread())) {
+                // an appender is itself logging; waiting on the ring from one of its threads could never complete
+                delegate.distribute(meta, level, formattedMessage);
+                return;
+            }
+            long sequence = next.getAndIncrement();
+            while ((sequence - written) >= slots.length) {
+                LockSupport.parkNanos(1000L); // full, give the writer a chance to free a slot
+            }
+            Slot slot = slots[(int) sequence & mask];
+            slot.event.set(meta, level, formattedMessage);
+            slot.published = sequence;
+            int formatter = (int) (sequence % formatters.length);
+            if (formattersWaiting.get(formatter) == 1) {
+                LockSupport.unpark(formatters[formatter]);
+            }
+        }
+
+        @Override public void flushIfDue() {
+            // the writer checks whenever idle
+        }
+
+        @Override public int stop(long timeoutNanos) {
+            running = false;
+            for (Thread formatter : formatters) {
+                LockSupport.unpark(formatter);
+            }
+            LockSupport.unpark(writer);
+            if (DaemonThreadFactory.join(writer, timeoutNanos)) {
+                return 0;
+            }
+            abandoned = true;
+            return (int) (next.get() - written);
+        }
+
+        @Override public boolean owns(Thread thread) {
+            if (writer == thread) {
+                return true;
+            }
+            for (Thread formatter : formatters) {
+                if (formatter == thread) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override public boolean synchronous() {
+            return false;
+        }
+
+        /**
+         * Formats, for every appender, the events whose sequence modulo the number of formatting threads is
+         * {@code formatter}.
+         * @param formatter the index of the calling formatting thread
+         */
+        private void format(int formatter) {
+            int idleCount = 0;
+            long sequence = formatter;
+            for (;;) {
+                if (abandoned) {
+                    return;
+                }
+                Slot slot = slots[(int) sequence & mask];
+                if (slot.published != sequence) {
+                    if (!running && (next.get() <= sequence)) {
+                        return;
+                    }
+                    WaitStrategy waitStrategy = UncialConfig.get().getWaitStrategy();
+                    if (waitStrategy.requiresSignal()) {
+                        formattersWaiting.set(formatter, 1);
+                        if ((slot.published != sequence) && running) {
+                            waitStrategy.idle(this, idleCount);
+                        }
+                        formattersWaiting.set(formatter, 0);
+                    } else {
+                        waitStrategy.idle(this, idleCount);
+                    }
+                    idleCount++;
+                    continue;
+                }
+                idleCount = 0;
+                LogEvent event = slot.event;
+                for (UncialConfig.AppenderGroup appenderGroup : UncialConfig.get().getAppenderGroups()) {
+                    try {
+                        // formatted once for all the appenders of the same format
+                        String message = appenderGroup.appenderConfigs[0].format(event, event.level,
+                                event.formattedMessage);
+                        for (UncialConfig.AppenderConfig appenderConfig : appenderGroup.appenderConfigs) {
+                            slot.add(appenderConfig, message);
+                        }
+                    } catch (RuntimeException re) {
+                        System.err.println(re.getMessage());
+                    }
+                }
+                slot.formatted = sequence;
+                if (writerWaiting) {
+                    LockSupport.unpark(writer);
+                }
+                sequence += formatters.length;
+            }
+        }
+
+        /**
+         * Hands the formatted events to the appenders in sequence order.
+         */
+        private void write() {
+            int idleCount = 0;
+            long sequence = 0L;
+            for (;;) {
+                if (abandoned) {
+                    return;
+                }
+                Slot slot = slots[(int) sequence & mask];
+                if (slot.formatted != sequence) {
+                    if (!running && (next.get() <= sequence)) {
+                        return;
+                    }
+                    try {
+                        delegate.idle();
+                    } catch (RuntimeException re) {
+                        System.err.println(re.getMessage());
+                    }
+                    WaitStrategy waitStrategy = UncialConfig.get().getWaitStrategy();
+                    if (waitStrategy.requiresSignal()) {
+                        writerWaiting = true;
+                        if ((slot.formatted != sequence) && running) {
+                            waitStrategy.idle(this, idleCount);
+                        }
+                        writerWaiting = false;
+                    } else {
+                        waitStrategy.idle(this, idleCount);
+                    }
+                    idleCount++;
+                    continue;
+                }
+                idleCount = 0;
+                for (int i = 0; i < slot.count; i++) {
+                    try {
+                        slot.appenderConfigs[i].handle(slot.messages[i]);
+                    } catch (RuntimeException re) {
+                        System.err.println(re.getMessage());
+                    }
+                }
+                slot.clear();
+                written = ++sequence;
+            }
+        }
+    }
+
+    /**
+     * Handles the log message on the invoking thread, as with {@link InvokingThread}, but via flat combining: each
+     * logging thread publishes its event in its own request slot and whichever thread acquires the combiner lock hands
+     * the pending events of all threads to the appenders as one batch (one write per appender) before releasing it.
+     * The other threads wait for their request to be completed rather than contending for each appender's monitor.
+     * A call still returns only once its event has been handed to the appenders; if an appender fails, the exception
+     * is rethrown to every caller whose event was within the failed batch.  As the callers wait, their messages may be
+     * deferred and formatted by the combiner (see {@link #synchronous()}); a failure to format is rethrown only to its
+     * own caller.
+     */
+    static final class Combining implements Distributor {
+
+        /**
+         * The maximum number of times the combiner rescans the requests for newly pending events before releasing the
+         * combiner lock.
+         */
+        private static final int MAX_PASSES = 4;
+
+        /**
+         * A logging thread's slot through which it publishes its event to the combiner.
+         */
+        private static final class Request {
+
+            private final LogEvent event = new LogEvent();
+
+            private final WeakReference<Thread> owner;
+
+            /**
+             * True from the time the owner publishes {@link #event} until the combiner has handed it to the appenders.
+             */
+            private volatile boolean pending;
+
+            /**
+             * Written by the combiner before clearing {@link #pending}.
+             */
+            private RuntimeException failure;
+
+            private Request(Thread owner) {
+                this.owner = new WeakReference<Thread>(owner);
+            }
+
+            private boolean isAbandoned() {
+                Thread thread = owner.get();
+                return (!pending && ((thread == null) || !thread.isAlive()));
+            }
+        }
+
+        private final InvokingThread delegate = new InvokingThread();
+
+        private final ThreadLocal<Request> request = new ThreadLocal<Request>() {
+            @Override protected Request initialValue() {
+                return register(Thread.currentThread());
+            }
+        };
+
+        /**
+         * Copy-on-write array of all registered requests; an array (rather than a collection) so that the combiner may
+         * iterate without allocating.
+         */
+        private volatile Request[] requests = new Request[0];
+
+        private final AtomicBoolean lock = new AtomicBoolean(false);
+
+        private volatile Thread combiner;
+
+        /**
+         * The pending requests, and their events, of the current pass; only accessed by the combiner.
+         */
+        private Request[] combined = new Request[0];
+
+        private LogEvent[] batch = new LogEvent[0];
+
+        @Override public void distribute(Meta meta, String level, String formattedMessage) {
+            if (combiner == Thread.currentThread()) {
+                // an appender is itself logging while this thread combines
+                delegate.distribute(meta, level, formattedMessage);
+                return;
+            }
+            Request request = this.request.get();
+            request.event.setUntilReturn(meta, level, formattedMessage); // this thread waits, its parameters are live
+            request.pending = true;
+            while (request.pending) {
+                if (!lock.get() && lock.compareAndSet(false, true)) {
+                    combiner = Thread.currentThread();
+                    try {
+                        combine();
+                    } finally {
+                        combiner = null;
+                        lock.set(false);
+                    }
+                } else {
+                    Thread.yield();
+                }
+            }
+            RuntimeException failure = request.failure;
+            if (failure != null) {
+                request.failure = null;
+                throw failure;
+            }
+        }
+
+        @Override public void flushIfDue() {
+            // if a combiner is active it will check with each write
+            if (!lock.get() && lock.compareAndSet(false, true)) {
+                try {
+                    delegate.flushIfDue();
+                } finally {
+                    lock.set(false);
+                }
+            }
+        }
+
+        @Override public int stop(long timeoutNanos) {
+            return 0; // nothing is ever in-flight once the callers have returned
+        }
+
+        @Override public boolean owns(Thread thread) {
+            return false;
+        }
+
+        @Override public boolean synchronous() {
+            return true; // each caller waits until the combiner has handed its event to the appenders
+        }
+
+        /**
+         * To be called only while holding {@link #lock}.  Hands the events of all pending requests to the appenders,
+         * repeating while requests continue to arrive (up to {@link #MAX_PASSES}).
+         */
+        private void combine() {
+            for (int pass = 0; pass < MAX_PASSES; pass++) {
+                Request[] current = requests;
+                if (combined.length < current.length) {
+                    combined = new Request[current.length];
+                    batch = new LogEvent[current.length];
+                }
+                int size = 0;
+                for (Request pending : current) {
+                    if (pending.pending) {
+                        combined[size] = pending;
+                        batch[size++] = pending.event;
+                    }
+                }
+                if (size == 0) {
+                    return;
+                }
+                RuntimeException failure = null;
+                try {
+                    if (size == 1) {
+                        // uncontended; a deferred message is rendered straight into the appenders' output
+                        delegate.distribute(batch[0], batch[0].level, batch[0].formattedMessage);
+                    } else {
+                        int remaining = format(size);
+                        if (remaining > 0) {
+                            delegate.distribute(batch, remaining);
+                        }
+                    }
+                } catch (RuntimeException re) {
+                    failure = re;
+                }
+                for (int i = 0; i < size; i++) {
+                    Request done = combined[i];
+                    combined[i] = null;
+                    batch[i] = null;
+                    done.event.clear();
+                    if (done.failure == null) {
+                        done.failure = failure;
+                    }
+                    done.pending = false;
+                }
+            }
+        }
+
+        /**
+         * Formats the deferred messages of the first {@code size} events of {@link #batch} so that a failure to format
+         * is rethrown only to its own caller, whose event is then removed from the batch.
+         * @param size the number of events within {@link #batch}
+         * @return the number of events, at the start of {@link #batch}, remaining to be distributed
+         */
+        private int format(int size) {
+            int remaining = 0;
+            for (int i = 0; i < size; i++) {
+                LogEvent event = batch[i];
+                try {
+                    LogEvent.message(event, event.formattedMessage);
+                    batch[remaining++] = event;
+                } catch (RuntimeException re) {
+                    combined[i].failure = re;
+                }
+            }
+            return remaining;
+        }
+
+        /**
+         * Adds a request for {@code owner}, removing those of terminated logging threads.
+         * @param owner of the new request
+         * @return the new request
+         */
+        private synchronized Request register(Thread owner) {
+            Request[] current = requests;
+            Request[] updated = new Request[current.length + 1];
+            int index = 0;
+            for (Request existing : current) {
+                if (!existing.isAbandoned()) {
+                    updated[index++] = existing;
+                }
+            }
+            Request request = new Request(owner);
+            updated[index++] = request;
+            requests = (index == updated.length ? updated : Arrays.copyOf(updated, index));
+            return request;
+        }
+    }
+
+    /**
+     * Delegates to the {@link Distributor} of the current {@link Distribution}, which may be changed while running.
+     * A change is a handover: logging threads are held while the outgoing distributor finishes the calls already
+     * in-flight and hands every event it has accepted to the appenders; only then does the incoming distributor begin
+     * accepting events.  Ordering of events is therefore preserved across a change.
+     */
+    static final class Switchable implements Distributor {
+
+        /**
+         * The number of {@link #distribute(Meta, String, String)} calls currently executing.
+         */
+        private final AtomicInteger inFlight = new AtomicInteger(0);
+
+        /**
+         * The distributor accepting events; null while a handover is in progress.
+         */
+        private volatile Distributor current;
+
+        /**
+         * The outgoing distributor while a handover is in progress.
+         */
+        private volatile Distributor draining;
+
+        private volatile Distribution distribution;
+
+        /**
+         * Set once {@link #stop(long)} is called, after which events are no longer accepted.
+         */
+        private volatile boolean stopped;
+
+        /**
+         * The number of events not accepted because this distributor was stopped.
+         */
+        private final AtomicInteger rejected = new AtomicInteger(0);
+
+        Switchable(Distribution distribution) {
+            this.distribution = distribution;
+            this.current = distribution.create();
+        }
+
+        @Override public void distribute(Meta meta, String level, String formattedMessage) {
+            for (;;) {
+                inFlight.incrementAndGet();
+                try {
+                    Distributor distributor = current;
+                    if (distributor != null) {
+                        distribute(distributor, meta, level, formattedMessage);
+                        return;
+                    }
+                    // an appender of the outgoing distributor is itself logging; it cannot wait for its own drain
+                    distributor = draining;
+                    if ((distributor != null) && distributor.owns(Thread.currentThread())) {
+                        distribute(distributor, meta, level, formattedMessage);
+                        return;
+                    }
+                    if (stopped) {
+                        rejected.incrementAndGet();
+                        return;
+                    }
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+                LockSupport.parkNanos(1000L); // a handover is in progress
+            }
+        }
+
+        private static void distribute(Distributor distributor, Meta meta, String level, String formattedMessage) {
+            if (!distributor.synchronous()) {
+                // the message may have been deferred for a synchronous distributor which has since been switched
+                LogEvent.resolve(meta);
+            }
+            distributor.distribute(meta, level, formattedMessage);
+        }
+
+        /**
+         * Hands over from the current distributor to a new one for {@code distribution}, returning once the handover
+         * is complete.
+         * @param distribution to which to change
+         */
+        synchronized void switchTo(Distribution distribution) {
+            if (stopped || (this.distribution == distribution)) {
+                return;
+            }
+            Distributor next = distribution.create();
+            Distributor previous = current;
+            draining = previous;
+            current = null;
+            while (inFlight.get() != 0) {
+                LockSupport.parkNanos(1000L);
+            }
+            try {
+                previous.stop(Long.MAX_VALUE);
+            } finally {
+                this.distribution = distribution;
+                current = next;
+                draining = null;
+            }
+        }
+
+        /**
+         * @return the current distribution
+         */
+        Distribution getDistribution() {
+            return distribution;
+        }
+
+        @Override public void flushIfDue() {
+            Distributor distributor = current;
+            if (distributor != null) {
+                distributor.flushIfDue();
+            }
+        }
+
+        /**
+         * Stops accepting events and then waits, up to {@code timeoutNanos}, for the current distributor to hand the
+         * events it has already accepted to the appenders.
+         * @param timeoutNanos the maximum time to wait
+         * @return the number of events either not accepted or abandoned by the current distributor
+         */
+        @Override public synchronized int stop(long timeoutNanos) {
+            if (stopped) {
+                return 0;
+            }
+            long start = System.nanoTime();
+            Distributor previous = current;
+            draining = previous;
+            stopped = true;
+            current = null;
+            while ((inFlight.get() != 0) && ((System.nanoTime() - start) < timeoutNanos)) {
+                LockSupport.parkNanos(1000L);
+            }
+            int abandoned = previous.stop(Math.max(0L, timeoutNanos - (System.nanoTime() - start)));
+            return abandoned + rejected.get();
+        }
+
+        @Override public boolean owns(Thread thread) {
+            Distributor distributor = current;
+            return ((distributor != null) && distributor.owns(thread));
+        }
+
+        @Override public boolean synchronous() {
+            Distributor distributor = current;
+            return ((distributor != null) && distributor.synchronous());
+        }
+    }
+
+    /**
+     * Handles the log message on the same thread, handling it instantly.  Each appender is handed one message at a time,
+     * under the {@link ReentrantLock} of its {@link Flusher}; messages are formatted before acquiring the lock.  Unlike
+     * waiting on a monitor, a virtual thread waiting on the lock unmounts from its carrier thread; appenders whose own
+     * synchronization is via monitors (e.g., {@literal synchronized}) are therefore never contended by more than one
+     * thread.
+     */
+    static class InvokingThread implements Distributor {
+
+        private final Formatter.Buffer batchBuffer = new Formatter.Buffer();
+
+        @Override public void distribute(Meta meta, String level, String formattedMessage) {
+            UncialConfig.AppenderGroup[] appenderGroups = UncialConfig.get().getAppenderGroups();
+            StringBuilder buffer = batchBuffer.get();
+            if (appenderGroups.length > 1) {
+                LogEvent.message(meta, formattedMessage); // format a deferred message once rather than per layout
+            }
+            for (UncialConfig.AppenderGroup appenderGroup : appenderGroups) {
+                buffer.setLength(0);
+                appenderGroup.render(buffer, meta, level, formattedMessage);
+                appenderGroup.handle(buffer);
+            }
+        }
+
+        /**
+         * Distributes the first {@code size} events of {@code batch} resolving the appender configuration once for the
+         * whole batch.  Each appender receives the batch as one contiguous message (the concatenation of each event
+         * formatted according to the appender's format) so that many small writes become one large write.  The batch
+         * is formatted once per distinct format and shared by the appenders of that format.
+         * @param batch of events to distribute
+         * @param size the number of events within {@code batch} to distribute
+         */
+        void distribute(LogEvent[] batch, int size) {
+            StringBuilder buffer = batchBuffer.get();
+            UncialConfig.AppenderGroup[] appenderGroups = UncialConfig.get().getAppenderGroups();
+            if (appenderGroups.length > 1) {
+                for (int i = 0; i < size; i++) {
+                    LogEvent.message(batch[i], batch[i].formattedMessage); // format once rather than per layout
+                }
+            }
+            for (UncialConfig.AppenderGroup appenderGroup : appenderGroups) {
+                buffer.setLength(0);
+                for (int i = 0; i < size; i++) {
+                    LogEvent event = batch[i];
+                    appenderGroup.render(buffer, event, event.level, event.formattedMessage);
+                }
+                appenderGroup.handle(buffer);
+            }
+        }
+
+        /**
+         * Hands the first {@code size} events of {@code batch} to {@code appenderConfig}'s appender as one contiguous
+         * message.
+         * @param appenderConfig to which to hand the batch
+         * @param batch of events to distribute
+         * @param size the number of events within {@code batch} to distribute
+         * @param buffer to use when concatenating the formatted events
+         */
+        static void distribute(UncialConfig.AppenderConfig appenderConfig, LogEvent[] batch, int size,
+                               StringBuilder buffer) {
+            buffer.setLength(0);
+            for (int i = 0; i < size; i++) {
+                LogEvent event = batch[i];
+                appenderConfig.render(buffer, event, event.level, event.formattedMessage);
+            }
+            appenderConfig.handle(buffer);
+        }
+
+        /**
+         * To be invoked by the thread writing to the appenders when it has fallen idle; flushes the appenders according
+         * to their {@link FlushPolicy}.
+         */
+        void idle() {
             Collection<UncialConfig.AppenderConfig> appenderConfigs = UncialConfig.get().getAppenderConfigs();
             for (UncialConfig.AppenderConfig appenderConfig : appenderConfigs) {
-                String message = appenderConfig.format(meta, level, formattedMessage);
-                appenderConfig.appender.handle(message);
+                appenderConfig.idle();
             }
         }
 
+        @Override public void flushIfDue() {
+            Collection<UncialConfig.AppenderConfig> appenderConfigs = UncialConfig.get().getAppenderConfigs();
+            for (UncialConfig.AppenderConfig appenderConfig : appenderConfigs) {
+                // skipped if another thread is writing to the appender, it will check with its write
+                appenderConfig.flushIfDue();
+            }
+        }
+
+        @Override public int stop(long timeoutNanos) {
+            return 0; // nothing is ever in-flight
+        }
+
+        @Override public boolean owns(Thread thread) {
+            return false;
+        }
+
+        @Override public boolean synchronous() {
+            return true;
+        }
+
     }
 
     /**
-     * Distributes the log message to all configured {@link UncialConfig.AppenderConfig} objects.
+     * Distributes the log message to all configured {@link UncialConfig.AppenderConfig} objects.  The caller may reuse
+     * {@code meta} once this method returns, so distributors copy (see {@link LogEvent#set(Meta, String, String)})
+     * rather than retain it.
      * @param meta associated with the log message to distribute
      * @param level of the log message to distribute
      * @param formattedMessage the actual message to distribute
      */
     void distribute(final Meta meta, final String level, final String formattedMessage);
 
+    /**
+     * Invoked periodically; flushes the appenders whose unflushed output is older than allowed by their
+     * {@link FlushPolicy}.  Where this distributor has its own thread writing to the appenders, that thread (rather than
+     * the calling thread) flushes, if it does not already do so itself whenever idle.
+     */
+    void flushIfDue();
+
+    /**
+     * Returns once every log message previously given to {@link #distribute(Meta, String, String)} has been handed to the
+     * appenders (or {@code timeoutNanos} has elapsed), after which any threads created by this distributor terminate.
+     * While stopping, queued log messages are handed to the appenders as fast as possible; appenders are not flushed.
+     * No log messages may be distributed after this call other than by this distributor's own threads (i.e., appenders
+     * which themselves log).
+     * @param timeoutNanos the maximum time to wait; {@link Long#MAX_VALUE} to wait indefinitely
+     * @return the number of log messages abandoned because they were not handed to the appenders within
+     *         {@code timeoutNanos}
+     */
+    int stop(long timeoutNanos);
+
+    /**
+     * @param thread to check
+     * @return true if {@code thread} was created by this distributor to hand log messages to the appenders
+     */
+    boolean owns(Thread thread);
+
+    /**
+     * @return true if {@link #distribute(Meta, String, String)} hands the log message to the appenders before returning;
+     *         its message may then be deferred regardless of its parameters and rendered straight into the appenders'
+     *         output (see {@link LogEvent#render(StringBuilder, Meta, String)})
+     */
+    boolean synchronous();
+
 }
@@ -0,0 +1,231 @@
+package net.ocheyedan.uncial;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * User: blangel
+ * Date: 6/15/12
+ * Time: 8:10 AM
+ *
+ * Encodes rendered log output into a reusable {@link ByteBuffer} for a
+ * {@link net.ocheyedan.uncial.appender.ByteAppender}.  Characters below {@literal 0x80} are copied straight into the
+ * buffer for {@literal UTF-8}, {@literal US-ASCII} and {@literal ISO-8859-1} (with {@literal UTF-8} encoded by hand
+ * otherwise); any other charset is encoded via a {@link CharsetEncoder}.  As with {@link String#getBytes(Charset)},
+ * characters which cannot be encoded are replaced.
+ * <p/>
+ * Not thread-safe; each thread handing output to the appender uses its own encoder.
+ */
+final class Encoder {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Buffers needed beyond this capacity are allocated for the one message rather than retained.  Buffers are sized by
+     * the actual encoded length (not the worst case), so a batch of ascii output up to this size reuses the buffer.
+     */
+    private static final int MAX_RETAINED_CAPACITY = 1 << 16;
+
+    private final Charset charset;
+
+    private final boolean utf8;
+
+    /**
+     * The highest character encoded as itself (a single byte) by {@link #charset}, or -1 if {@link #charset} is encoded
+     * via {@link #encoder}.
+     */
+    private final int singleByteMax;
+
+    /**
+     * Null if {@link #charset} has a fast path.
+     */
+    private final CharsetEncoder encoder;
+
+    private ByteBuffer buffer;
+
+    /**
+     * True while the buffer returned by {@link #encode(CharSequence)} is in the hands of the appender; an appender
+     * which itself logs (on the same thread) must not have the buffer overwritten beneath it.
+     */
+    private boolean inUse;
+
+    Encoder(Charset charset) {
+        this.charset = charset;
+        this.utf8 = StandardCharsets.UTF_8.equals(charset);
+        if (utf8) {
+            this.singleByteMax = 0x7F;
+        } else if (StandardCharsets.US_ASCII.equals(charset)) {
+            this.singleByteMax = 0x7F;
+        } else if (StandardCharsets.ISO_8859_1.equals(charset)) {
+            this.singleByteMax = 0xFF;
+        } else {
+            this.singleByteMax = -1;
+        }
+        this.encoder = (singleByteMax == -1 ? charset.newEncoder().onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE) : null);
+        this.buffer = ByteBuffer.allocate(INITIAL_CAPACITY);
+    }
+
+    /**
+     * @return the charset in which this encodes
+     */
+    Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Encodes {@code chars}; the returned buffer is only valid until {@link #release(ByteBuffer)} is called.
+     * @param chars to encode
+     * @return a buffer whose remaining bytes are the encoding of {@code chars}
+     */
+    ByteBuffer encode(CharSequence chars) {
+        int length = chars.length();
+        if (encoder != null) {
+            return encodeWithEncoder(chars, buffer((int) Math.ceil(length * (double) encoder.averageBytesPerChar())));
+        }
+        // one byte per character; enough unless utf8 and not only ascii, in which case sized below
+        ByteBuffer target = buffer(length);
+        byte[] bytes = target.array();
+        int offset = target.arrayOffset();
+        int position = offset;
+        int i = 0;
+        for (; i < length; i++) { // the ascii fast path
+            char character = chars.charAt(i);
+            if (character >= 0x80) {
+                break;
+            }
+            bytes[position++] = (byte) character;
+        }
+        if (utf8 && (i < length)) {
+            int needed = (position - offset) + utf8Length(chars, i, length);
+            if (needed > target.capacity()) {
+                target = grow(target, position - offset, needed);
+                bytes = target.array();
+                position = target.arrayOffset() + (position - offset);
+                offset = target.arrayOffset();
+            }
+        }
+        for (; i < length; i++) {
+            char character = chars.charAt(i);
+            if (character <= singleByteMax) {
+                bytes[position++] = (byte) character;
+            } else if (!utf8) {
+                if (Character.isHighSurrogate(character) && (i + 1 < length)
+                        && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                    i++; // one replacement per code point
+                }
+                bytes[position++] = (byte) '?';
+            } else if (character < 0x800) {
+                bytes[position++] = (byte) (0xC0 | (character >> 6));
+                bytes[position++] = (byte) (0x80 | (character & 0x3F));
+            } else if (Character.isHighSurrogate(character) && (i + 1 < length)
+                    && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(character, chars.charAt(++i));
+                bytes[position++] = (byte) (0xF0 | (codePoint >> 18));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                bytes[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (codePoint & 0x3F));
+            } else if (Character.isSurrogate(character)) {
+                bytes[position++] = (byte) '?'; // unpaired
+            } else {
+                bytes[position++] = (byte) (0xE0 | (character >> 12));
+                bytes[position++] = (byte) (0x80 | ((character >> 6) & 0x3F));
+                bytes[position++] = (byte) (0x80 | (character & 0x3F));
+            }
+        }
+        target.position(position - offset);
+        target.flip();
+        return target;
+    }
+
+    /**
+     * @return the number of bytes of the {@literal UTF-8} encoding (as by {@link #encode(CharSequence)}) of the
+     *         characters of {@code chars} from {@code start} to {@code end}
+     */
+    private static int utf8Length(CharSequence chars, int start, int end) {
+        int length = 0;
+        for (int i = start; i < end; i++) {
+            char character = chars.charAt(i);
+            if (character < 0x80) {
+                length++;
+            } else if (character < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(character) && (i + 1 < end)
+                    && Character.isLowSurrogate(chars.charAt(i + 1))) {
+                length += 4;
+                i++;
+            } else if (Character.isSurrogate(character)) {
+                length++; // replaced
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+
+    private ByteBuffer encodeWithEncoder(CharSequence chars, ByteBuffer target) {
+        CharBuffer source = CharBuffer.wrap(chars);
+        for (;;) {
+            encoder.reset();
+            CoderResult result = encoder.encode(source, target, true);
+            if (!result.isOverflow()) {
+                result = encoder.flush(target);
+            }
+            if (!result.isOverflow()) {
+                target.flip();
+                return target;
+            }
+            source.rewind();
+            release(target);
+            target = buffer(target.capacity() * 2);
+        }
+    }
+
+    /**
+     * To be invoked once the appender is done with the buffer returned by {@link #encode(CharSequence)}.
+     * @param encoded the buffer returned by {@link #encode(CharSequence)}
+     */
+    void release(ByteBuffer encoded) {
+        if (encoded == buffer) {
+            inUse = false;
+        }
+    }
+
+    /**
+     * @param target being encoded into
+     * @param written the number of bytes already encoded into {@code target}
+     * @param capacity the minimum capacity needed
+     * @return a buffer of at least {@code capacity} into which the bytes written to {@code target} have been copied
+     */
+    private ByteBuffer grow(ByteBuffer target, int written, int capacity) {
+        release(target);
+        ByteBuffer grown = buffer(capacity);
+        System.arraycopy(target.array(), target.arrayOffset(), grown.array(), grown.arrayOffset(), written);
+        return grown;
+    }
+
+    /**
+     * @param capacity the minimum capacity needed
+     * @return an empty buffer, the reusable one if it is not in use
+     */
+    private ByteBuffer buffer(int capacity) {
+        if (inUse) {
+            return ByteBuffer.allocate(Math.max(capacity, 16));
+        }
+        if (buffer.capacity() < capacity) {
+            if (capacity > MAX_RETAINED_CAPACITY) {
+                return ByteBuffer.allocate(capacity);
+            }
+            buffer = ByteBuffer.allocate(Math.max(capacity, Math.min(buffer.capacity() * 2, MAX_RETAINED_CAPACITY)));
+        }
+        buffer.clear();
+        inUse = true;
+        return buffer;
+    }
+
+}
@@ -0,0 +1,85 @@
+package net.ocheyedan.uncial;
+
+import net.ocheyedan.uncial.appender.SizeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * User: blangel
+ * Date: 6/12/12
+ * Time: 7:40 AM
+ *
+ * Dictates when an {@link net.ocheyedan.uncial.appender.Appender} is flushed.  Flushing is done by the thread writing
+ * to the appender (the appender thread when logging on a separate thread) and happens whenever any of the following is
+ * true and there is unflushed output:
+ * <pre>
+ *     - the appender thread has fallen idle (if {@link #isFlushOnIdle()})
+ *     - the approximate bytes written since the last flush reaches {@link #getMaxUnflushedBytes()}
+ *     - the oldest unflushed output is older than {@link #getMaxAge()} milliseconds
+ * </pre>
+ * Flushing on idle gives low latency when the load is low while the byte threshold keeps the number of flushes low
+ * when the load is high.
+ * @see UncialConfig#setFlushPolicy(net.ocheyedan.uncial.appender.Appender, FlushPolicy)
+ */
+public final class FlushPolicy {
+
+    /**
+     * Flushes on idle, every 64 KB and at least every second.
+     */
+    public static final FlushPolicy DEFAULT = new FlushPolicy(true, SizeUnit.KILOBYTES.toBytes(64L),
+            TimeUnit.SECONDS.toMillis(1L));
+
+    private final boolean flushOnIdle;
+
+    private final long maxUnflushedBytes;
+
+    private final long maxAge;
+
+    private final long maxAgeNanos;
+
+    /**
+     * @param flushOnIdle true to flush whenever the appender thread falls idle
+     * @param maxUnflushedBytes the approximate bytes (length of the formatted messages) which may be written before
+     *                          flushing; must be positive
+     * @param maxAge the maximum number of milliseconds output may go unflushed; must be positive
+     */
+    public FlushPolicy(boolean flushOnIdle, long maxUnflushedBytes, long maxAge) {
+        if ((maxUnflushedBytes < 1L) || (maxAge < 1L)) {
+            throw new IllegalArgumentException("The max unflushed bytes and max age must be positive.");
+        }
+        this.flushOnIdle = flushOnIdle;
+        this.maxUnflushedBytes = maxUnflushedBytes;
+        this.maxAge = maxAge;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAge);
+    }
+
+    /**
+     * @return true if the appender is flushed whenever the appender thread falls idle
+     */
+    public boolean isFlushOnIdle() {
+        return flushOnIdle;
+    }
+
+    /**
+     * @return the approximate bytes which may be written before flushing
+     */
+    public long getMaxUnflushedBytes() {
+        return maxUnflushedBytes;
+    }
+
+    /**
+     * @return the maximum number of milliseconds output may go unflushed
+     */
+    public long getMaxAge() {
+        return maxAge;
+    }
+
+    long getMaxAgeNanos() {
+        return maxAgeNanos;
+    }
+
+    @Override public String toString() {
+        return String.format("FlushPolicy [ onIdle %s, maxUnflushedBytes %d, maxAge %d ms ]", flushOnIdle,
+                maxUnflushedBytes, maxAge);
+    }
+}
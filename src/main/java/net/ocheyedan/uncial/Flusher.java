@@ -0,0 +1,113 @@
+package net.ocheyedan.uncial;
+
+import net.ocheyedan.uncial.appender.Appender;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * User: blangel
+ * Date: 6/12/12
+ * Time: 8:05 AM
+ *
+ * Tracks the output written to an {@link Appender} since it was last flushed and flushes it according to a
+ * {@link FlushPolicy}.  Every write to the appender is made holding {@link #lock()} (see
+ * {@link UncialConfig.AppenderConfig#handle(CharSequence)}) as is every flush, so a flush (from whichever thread)
+ * never races a write and the unflushed output is reset together with the flush it accounts for.  When there is a
+ * single appender thread the lock is never contended.
+ */
+final class Flusher {
+
+    private final Appender appender;
+
+    /**
+     * Guards writes to, and flushes of, {@link #appender} as well as {@link #unflushed} and {@link #oldestUnflushed}.
+     * Reentrant, as an appender may itself log.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * The approximate bytes written since the last flush.
+     */
+    private long unflushed;
+
+    /**
+     * The {@link System#nanoTime()} of the first write since the last flush; only meaningful if {@link #unflushed} is
+     * positive.
+     */
+    private long oldestUnflushed;
+
+    Flusher(Appender appender) {
+        this.appender = appender;
+    }
+
+    /**
+     * To be held while writing to the appender and until {@link #written(FlushPolicy, int)} returns.
+     */
+    void lock() {
+        lock.lock();
+    }
+
+    void unlock() {
+        lock.unlock();
+    }
+
+    /**
+     * To be called holding {@link #lock()}.  Records that {@code length} approximate bytes have been written to the
+     * appender, flushing if the unflushed output is over {@code policy}'s byte threshold or age.
+     * @param policy to apply
+     * @param length of the output written
+     */
+    void written(FlushPolicy policy, int length) {
+        if (unflushed == 0L) {
+            oldestUnflushed = System.nanoTime();
+        }
+        unflushed += length;
+        if ((unflushed >= policy.getMaxUnflushedBytes()) || isOverAge(policy)) {
+            flush();
+        }
+    }
+
+    /**
+     * Invoked when the thread writing to the appender falls idle; flushes if there is unflushed output and either the
+     * {@code policy} flushes on idle or the output is over age.
+     * @param policy to apply
+     */
+    void idle(FlushPolicy policy) {
+        lock.lock();
+        try {
+            if ((unflushed > 0L) && (policy.isFlushOnIdle() || isOverAge(policy))) {
+                flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flushes if there is unflushed output which is over {@code policy}'s age, unless the appender is being written to
+     * (in which case the writing thread checks the age itself once it has written).
+     * @param policy to apply
+     */
+    void flushIfDue(FlushPolicy policy) {
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            if ((unflushed > 0L) && isOverAge(policy)) {
+                flush();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isOverAge(FlushPolicy policy) {
+        return ((System.nanoTime() - oldestUnflushed) >= policy.getMaxAgeNanos());
+    }
+
+    private void flush() {
+        unflushed = 0L;
+        appender.flush();
+    }
+
+}
@@ -1,7 +1,10 @@
 package net.ocheyedan.uncial;
 
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * User: blangel
@@ -27,54 +30,318 @@ public interface Formatter {
         }
     }
 
+    /**
+     * A {@link Formatter} which formats a single primitive argument without boxing it.  Each method is equivalent to
+     * {@link #format(String, Object...)} with the boxed {@code arg}.
+     */
+    static interface Primitives extends Formatter {
+
+        String format(String format, int arg);
+
+        String format(String format, long arg);
+
+        String format(String format, double arg);
+
+        String format(String format, boolean arg);
+
+        String format(String format, char arg);
+
+        String format(String format, float arg);
+
+        String format(String format, short arg);
+
+        String format(String format, byte arg);
+
+    }
+
+    /**
+     * A {@link Formatter} which can append a formatted message to a given buffer; the message is then rendered straight
+     * into the appender's output (see {@link LogEvent#render(StringBuilder, Meta, String)}) rather than into a string
+     * which is then copied.
+     */
+    static interface Rendering extends Formatter {
+
+        /**
+         * Appends the equivalent of {@link #format(String, Object...)} to {@code buffer}.
+         * @param buffer to which to append the formatted message
+         * @param format @see {@link #format(String, Object...)}
+         * @param args @see {@link #format(String, Object...)}
+         */
+        void render(StringBuilder buffer, String format, Object ... args);
+
+    }
+
+    /**
+     * A bounded cache of formats parsed by {@link #parse(String)}, keyed by the identity of the format string (as log
+     * calls almost always pass a constant, and so the same, format string).  The cache is direct-mapped by the identity
+     * hash code of the format; a colliding format simply replaces the entry.  Entries are immutable so races only cost
+     * a re-parse.
+     */
+    static abstract class Templates<T> {
+
+        private static final class Entry<T> {
+
+            private final String format;
+
+            private final T template;
+
+            private Entry(String format, T template) {
+                this.format = format;
+                this.template = template;
+            }
+        }
+
+        /**
+         * Must be a power of two.
+         */
+        private static final int SIZE = 256;
+
+        private final AtomicReferenceArray<Entry<T>> entries = new AtomicReferenceArray<Entry<T>>(SIZE);
+
+        /**
+         * @param format for which to get the template
+         * @return the cached template for {@code format}, parsing it if not cached
+         */
+        T get(String format) {
+            int index = System.identityHashCode(format) & (SIZE - 1);
+            Entry<T> entry = entries.get(index);
+            if ((entry == null) || (entry.format != format)) {
+                entry = new Entry<T>(format, parse(format));
+                entries.lazySet(index, entry);
+            }
+            return entry.template;
+        }
+
+        /**
+         * @param format to parse
+         * @return the template of {@code format}
+         */
+        abstract T parse(String format);
+
+    }
+
     /**
      * Mimics {@literal SLF4J}'s parameters formatter implementation but expands it with varargs support.
+     * Formats are split into their literal segments once, see {@link Templates}.
      */
-    static final class Slf4j implements Formatter {
+    static final class Slf4j implements Primitives, Rendering {
 
         private final Buffer buffer = new Buffer();
 
+        /**
+         * For each format, one more literal segment than the number of placeholders; the literal text before each
+         * placeholder and after the last.
+         */
+        private final Templates<String[]> templates = new Templates<String[]>() {
+            @Override String[] parse(String format) {
+                return split(format);
+            }
+        };
+
         @Override
         public String format(String format, Object ... args) {
             buffer.clear();
             StringBuilder buffer = this.buffer.get();
-            char[] chars = format.toCharArray();
-            boolean lastWasBracket = false;
-            int count = 0;
-            for (char character : chars) {
-                if (lastWasBracket) {
-                    lastWasBracket = false;
-                    switch (character) {
-                        case '}':
-                            String replacement = (count >= args.length ? "" : String.valueOf(args[count++]));
-                            buffer.append(replacement);
-                            break;
-                        case '{':
-                            buffer.append('{');
-                            lastWasBracket = true;
-                            break;
-                        default:
-                            buffer.append('{');
-                            buffer.append(character);
-                    }
-                } else {
-                    if (character == '{') {
-                        lastWasBracket = true;
-                    } else {
-                        buffer.append(character);
-                    }
+            render(buffer, format, args);
+            return buffer.toString();
+        }
+
+        @Override
+        public void render(StringBuilder buffer, String format, Object ... args) {
+            String[] segments = templates.get(format);
+            int placeholders = segments.length - 1;
+            for (int i = 0; i < placeholders; i++) {
+                buffer.append(segments[i]);
+                if (i < args.length) {
+                    buffer.append(args[i]);
                 }
             }
+            buffer.append(segments[placeholders]);
+        }
+
+        @Override
+        public String format(String format, int arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        @Override
+        public String format(String format, long arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        @Override
+        public String format(String format, double arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        @Override
+        public String format(String format, boolean arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        @Override
+        public String format(String format, char arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        @Override
+        public String format(String format, float arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        @Override
+        public String format(String format, short arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        @Override
+        public String format(String format, byte arg) {
+            String[] segments = templates.get(format);
+            StringBuilder buffer = begin(segments);
+            if (segments.length > 1) {
+                buffer.append(arg);
+            }
+            return end(buffer, segments);
+        }
+
+        /**
+         * @return the cleared buffer with the literal segment before the first placeholder appended
+         */
+        private StringBuilder begin(String[] segments) {
+            buffer.clear();
+            return buffer.get().append(segments[0]);
+        }
+
+        /**
+         * @return {@code buffer}, having appended the remaining literal segments (as the placeholders after the first have
+         *         no argument)
+         */
+        private String end(StringBuilder buffer, String[] segments) {
+            for (int i = 1; i < segments.length; i++) {
+                buffer.append(segments[i]);
+            }
             return buffer.toString();
         }
 
+        /**
+         * @param format to split
+         * @return the literal segments of {@code format} around its {@literal {}} placeholders; any other {@literal {}
+         *         is literal text except a trailing one, which is dropped.
+         */
+        private static String[] split(String format) {
+            List<String> segments = new ArrayList<String>();
+            int start = 0;
+            for (int placeholder = format.indexOf("{}"); placeholder != -1;
+                 placeholder = format.indexOf("{}", start)) {
+                segments.add(format.substring(start, placeholder));
+                start = placeholder + 2;
+            }
+            int end = ((format.length() > start) && (format.charAt(format.length() - 1) == '{')
+                    ? format.length() - 1 : format.length());
+            segments.add(format.substring(start, end));
+            return segments.toArray(new String[segments.size()]);
+        }
+
     }
 
     /**
      * Wrapper around {@link String#format(String, Object...)} which shares, in a thread-safe way, both a {@link java.util.Formatter}
      * and {@link StringBuilder} object.
+     * <p/>
+     * Formats whose only conversions are {@literal %s}, {@literal %d}, {@literal %x}, {@literal %%} and {@literal %n}
+     * (without flags, width, precision or argument index) are parsed once (see {@link Templates}) and rendered directly;
+     * the output is identical to that of {@link java.util.Formatter}.  Any other format, {@link java.util.Formattable}
+     * argument, {@literal %d}/{@literal %x} argument other than a {@link Long}, {@link Integer}, {@link Short} or
+     * {@link Byte}, or locale which does not render {@literal %d} as {@link Long#toString(long)} is handed to the
+     * {@link java.util.Formatter}.
      */
-    static final class Printf implements Formatter {
+    static final class Printf implements Primitives, Rendering {
+
+        /**
+         * A format split around its conversions.
+         */
+        private static final class Template {
+
+            /**
+             * Marks a format which must be handed to the {@link java.util.Formatter}.
+             */
+            private static final Template UNSUPPORTED = new Template(null, null);
+
+            /**
+             * One more than the number of {@link #conversions}; the literal text before each conversion and after the
+             * last (with {@literal %%} and {@literal %n} already expanded).
+             */
+            private final String[] segments;
+
+            /**
+             * Each of {@literal s}, {@literal d} or {@literal x}.
+             */
+            private final char[] conversions;
+
+            private Template(String[] segments, char[] conversions) {
+                this.segments = segments;
+                this.conversions = conversions;
+            }
+        }
+
+        /**
+         * Whether the {@link java.util.Formatter} of a locale renders {@literal %d} as {@link Long#toString(long)}.
+         */
+        private static final class LocaleDigits {
+
+            private final Locale locale;
+
+            private final boolean plain;
+
+            private LocaleDigits(Locale locale) {
+                this.locale = locale;
+                String expected = Long.toString(-1234567890L) + " " + Long.toString(Long.MIN_VALUE);
+                this.plain = expected.equals(new java.util.Formatter(new StringBuilder(), locale)
+                        .format("%d %d", -1234567890L, Long.MIN_VALUE).toString());
+            }
+        }
+
+        /**
+         * See {@link #single(Template, boolean)}.
+         */
+        private static final char NONE = ' ';
+
+        private static final char UNSUPPORTED = 0;
 
         private final Buffer buffer = new Buffer();
 
@@ -84,92 +351,521 @@ public interface Formatter {
             }
         };
 
+        private final Templates<Template> templates = new Templates<Template>() {
+            @Override Template parse(String format) {
+                return split(format);
+            }
+        };
+
+        private volatile LocaleDigits localeDigits;
+
         @Override
         public String format(String format, Object ... args) {
             buffer.clear();
-            return formatter.get().format(format, args).toString();
+            java.util.Formatter formatter = this.formatter.get();
+            Template template = templates.get(format);
+            if (!supported(template, args, formatter.locale())) {
+                return formatter.format(format, args).toString();
+            }
+            StringBuilder buffer = this.buffer.get();
+            append(buffer, template, args);
+            return buffer.toString();
         }
-    }
 
-    /**
-     * A {@link Formatter} like implementation which {@link Appender} objects can use to format their message according
-     * to the {@link net.ocheyedan.uncial.Formatter.Printf} appender format.
-     */
-    static class Appender {
+        @Override
+        public void render(StringBuilder buffer, String format, Object ... args) {
+            Locale locale = formatter.get().locale();
+            Template template = templates.get(format);
+            if (!supported(template, args, locale)) {
+                new java.util.Formatter(buffer, locale).format(format, args);
+                return;
+            }
+            append(buffer, template, args);
+        }
 
-        private final ThreadLocal<SimpleDateFormat> dateFormatter = new ThreadLocal<SimpleDateFormat>() {
-            @Override protected SimpleDateFormat initialValue() {
-                return new SimpleDateFormat("MM/dd/yyyy HH:mm:ss.SSS");
+        /**
+         * Appends {@code args} formatted according to {@code template}, which must be {@link #supported}.
+         */
+        private static void append(StringBuilder buffer, Template template, Object[] args) {
+            String[] segments = template.segments;
+            char[] conversions = template.conversions;
+            for (int i = 0; i < conversions.length; i++) {
+                buffer.append(segments[i]);
+                Object arg = args[i];
+                if ((arg == null) || (conversions[i] != 'x')) {
+                    buffer.append(arg); // %s and %d both render as String#valueOf(Object) for the supported arguments
+                } else if (arg instanceof Integer) {
+                    buffer.append(Integer.toHexString((Integer) arg));
+                } else if (arg instanceof Long) {
+                    buffer.append(Long.toHexString((Long) arg));
+                } else if (arg instanceof Short) {
+                    buffer.append(Integer.toHexString(((Short) arg) & 0xffff));
+                } else {
+                    buffer.append(Integer.toHexString(((Byte) arg) & 0xff));
+                }
             }
-        };
+            buffer.append(segments[conversions.length]);
+        }
 
-        private final Buffer buffer = new Buffer();
+        @Override
+        public String format(String format, int arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, true);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion == 'x') {
+                buffer.append(Integer.toHexString(arg));
+            } else if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
 
-        public String format(Meta meta, String level, String formattedMessage, String format) {
+        @Override
+        public String format(String format, long arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, true);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion == 'x') {
+                buffer.append(Long.toHexString(arg));
+            } else if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
+
+        @Override
+        public String format(String format, double arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, false);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
+
+        @Override
+        public String format(String format, boolean arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, false);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
+
+        @Override
+        public String format(String format, char arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, false);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
+
+        @Override
+        public String format(String format, float arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, false);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
+
+        @Override
+        public String format(String format, short arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, true);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion == 'x') {
+                buffer.append(Integer.toHexString(arg & 0xffff));
+            } else if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
+
+        @Override
+        public String format(String format, byte arg) {
+            Template template = templates.get(format);
+            char conversion = single(template, true);
+            if (conversion == UNSUPPORTED) {
+                return format(format, new Object[] { arg });
+            }
+            StringBuilder buffer = begin(template);
+            if (conversion == 'x') {
+                buffer.append(Integer.toHexString(arg & 0xff));
+            } else if (conversion != NONE) {
+                buffer.append(arg);
+            }
+            return end(buffer, template);
+        }
+
+        /**
+         * @param template of the format
+         * @param integral true for an {@literal int}, {@literal long}, {@literal short} or {@literal byte} argument
+         * @return the conversion of {@code template} to apply to a single argument, {@link #NONE} if there is none or
+         *         {@link #UNSUPPORTED} if it must be handed to the {@link java.util.Formatter}
+         */
+        private char single(Template template, boolean integral) {
+            if ((template == Template.UNSUPPORTED) || (template.conversions.length > 1)) {
+                return UNSUPPORTED;
+            } else if (template.conversions.length == 0) {
+                return NONE;
+            }
+            char conversion = template.conversions[0];
+            if (conversion == 's') {
+                return conversion;
+            } else if (!integral || ((conversion == 'd') && !plainDigits(formatter.get().locale()))) {
+                return UNSUPPORTED;
+            }
+            return conversion;
+        }
+
+        /**
+         * @return the cleared buffer with the literal segment before the conversion appended
+         */
+        private StringBuilder begin(Template template) {
             buffer.clear();
-            StringBuilder buffer = this.buffer.get();
-            char[] chars = format.toCharArray();
+            return buffer.get().append(template.segments[0]);
+        }
+
+        /**
+         * @return {@code buffer}, having appended the literal segment after the conversion (if any)
+         */
+        private String end(StringBuilder buffer, Template template) {
+            if (template.segments.length > 1) {
+                buffer.append(template.segments[1]);
+            }
+            return buffer.toString();
+        }
+
+        /**
+         * @return true if {@code template} can be rendered directly with {@code args}
+         */
+        private boolean supported(Template template, Object[] args, Locale locale) {
+            if ((template == Template.UNSUPPORTED) || (args == null) || (args.length < template.conversions.length)) {
+                return false;
+            }
+            char[] conversions = template.conversions;
+            for (int i = 0; i < conversions.length; i++) {
+                Object arg = args[i];
+                if (arg == null) {
+                    continue;
+                }
+                if (conversions[i] == 's') {
+                    if (arg instanceof Formattable) {
+                        return false;
+                    }
+                } else if (!((arg instanceof Integer) || (arg instanceof Long) || (arg instanceof Short)
+                        || (arg instanceof Byte))) {
+                    return false;
+                } else if ((conversions[i] == 'd') && !plainDigits(locale)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean plainDigits(Locale locale) {
+            LocaleDigits localeDigits = this.localeDigits;
+            if ((localeDigits == null) || !localeDigits.locale.equals(locale)) {
+                localeDigits = new LocaleDigits(locale);
+                this.localeDigits = localeDigits;
+            }
+            return localeDigits.plain;
+        }
+
+        /**
+         * @param format to split
+         * @return the template of {@code format} or {@link Template#UNSUPPORTED}
+         */
+        private static Template split(String format) {
+            List<String> segments = new ArrayList<String>();
+            StringBuilder conversions = new StringBuilder();
+            StringBuilder literal = new StringBuilder();
+            int start = 0;
+            for (int percent = format.indexOf('%'); percent != -1; percent = format.indexOf('%', start)) {
+                literal.append(format, start, percent);
+                if (percent + 1 == format.length()) {
+                    return Template.UNSUPPORTED;
+                }
+                char conversion = format.charAt(percent + 1);
+                switch (conversion) {
+                    case 's':
+                    case 'd':
+                    case 'x':
+                        segments.add(literal.toString());
+                        literal.setLength(0);
+                        conversions.append(conversion);
+                        break;
+                    case '%':
+                        literal.append('%');
+                        break;
+                    case 'n':
+                        literal.append(System.getProperty("line.separator"));
+                        break;
+                    default:
+                        return Template.UNSUPPORTED;
+                }
+                start = percent + 2;
+            }
+            literal.append(format, start, format.length());
+            segments.add(literal.toString());
+            char[] chars = new char[conversions.length()];
+            conversions.getChars(0, chars.length, chars, 0);
+            return new Template(segments.toArray(new String[segments.size()]), chars);
+        }
+
+    }
+
+    /**
+     * An appender format compiled, once, into the sequence of literal segments and fields which
+     * {@link Formatter.Appender} renders for each log message; so that the format is not parsed per message.
+     * @see UncialConfig#addAppender(net.ocheyedan.uncial.appender.Appender, String) for a description of the format
+     */
+    static final class Layout {
+
+        static final byte LITERAL = 0;
+        static final byte THREAD = 1;
+        static final byte FILE = 2;
+        static final byte CLASS = 3;
+        static final byte METHOD = 4;
+        static final byte LINE = 5;
+        static final byte LEVEL = 6;
+        static final byte DATE = 7;
+        static final byte MESSAGE = 8;
+
+        /**
+         * @param format to compile
+         * @return the compiled {@code format}
+         */
+        public static Layout compile(String format) {
+            List<Byte> tokens = new ArrayList<Byte>();
+            List<String> literals = new ArrayList<String>();
+            List<TimestampRenderer> timestamps = new ArrayList<TimestampRenderer>();
+            StringBuilder literal = new StringBuilder();
             boolean lastWasPercent = false;
-            for (char character : chars) {
+            for (int i = 0; i < format.length(); i++) {
+                char character = format.charAt(i);
                 if (lastWasPercent) {
                     lastWasPercent = false;
+                    byte field;
+                    TimestampRenderer timestamp = null;
                     switch (character) {
                         case 't':
-                            if (meta.invokingThreadName() != null) {
-                                buffer.append(meta.invokingThreadName());
-                            }
+                            field = THREAD;
                             break;
                         case 'F':
-                            if (meta.invokingFileName() != null) {
-                                buffer.append(meta.invokingFileName());
-                            }
+                            field = FILE;
                             break;
                         case 'C':
-                            if (meta.invokingClassName() != null) {
-                                buffer.append(meta.invokingClassName());
-                            }
+                            field = CLASS;
                             break;
                         case 'M':
-                            if (meta.invokingMethodName() != null) {
-                                buffer.append(meta.invokingMethodName());
-                            }
+                            field = METHOD;
                             break;
                         case 'L':
-                            if (meta.invokingLineNumber() != null) {
-                                buffer.append(meta.invokingLineNumber());
-                            }
+                            field = LINE;
                             break;
                         case 'l':
-                            buffer.append(level);
+                            field = LEVEL;
                             break;
                         case 'd':
-                            buffer.append(dateFormatter.get().format(new Date(meta.invokingEpochTime())));
+                            field = DATE;
+                            int end = ((i + 1 < format.length()) && (format.charAt(i + 1) == '{')
+                                    ? format.indexOf('}', i + 2) : -1);
+                            if (end == -1) {
+                                timestamp = TimestampRenderer.create(null);
+                            } else {
+                                timestamp = TimestampRenderer.create(format.substring(i + 2, end));
+                                i = end;
+                            }
                             break;
                         case 'm':
-                            buffer.append(formattedMessage);
+                            field = MESSAGE;
                             break;
                         case 'n':
-                            buffer.append('\n');
-                            break;
+                            literal.append('\n');
+                            continue;
                         case '%':
-                            buffer.append('%');
+                            literal.append('%');
                             lastWasPercent = true;
-                            break;
+                            continue;
                         default:
-                            buffer.append('%');
-                            buffer.append(character);
+                            literal.append('%');
+                            literal.append(character);
+                            continue;
                     }
+                    addLiteral(literal, tokens, literals, timestamps);
+                    tokens.add(field);
+                    literals.add(null);
+                    timestamps.add(timestamp);
                 } else {
                     if (character == '%') {
                         lastWasPercent = true;
                     } else {
-                        buffer.append(character);
+                        literal.append(character);
                     }
                 }
             }
+            addLiteral(literal, tokens, literals, timestamps);
+            byte[] compiled = new byte[tokens.size()];
+            for (int i = 0; i < compiled.length; i++) {
+                compiled[i] = tokens.get(i);
+            }
+            return new Layout(format, compiled, literals.toArray(new String[literals.size()]),
+                    timestamps.toArray(new TimestampRenderer[timestamps.size()]));
+        }
+
+        private static void addLiteral(StringBuilder literal, List<Byte> tokens, List<String> literals,
+                                       List<TimestampRenderer> timestamps) {
+            if (literal.length() > 0) {
+                tokens.add(LITERAL);
+                literals.add(literal.toString());
+                timestamps.add(null);
+                literal.setLength(0);
+            }
+        }
+
+        private final String format;
+
+        /**
+         * What to render, in order.
+         */
+        final byte[] tokens;
+
+        /**
+         * The text of each {@link #LITERAL} within {@link #tokens} (at the same index); null for fields.
+         */
+        final String[] literals;
+
+        /**
+         * The renderer of each {@link #DATE} within {@link #tokens} (at the same index); null for anything else.
+         */
+        final TimestampRenderer[] timestamps;
+
+        private Layout(String format, byte[] tokens, String[] literals, TimestampRenderer[] timestamps) {
+            this.format = format;
+            this.tokens = tokens;
+            this.literals = literals;
+            this.timestamps = timestamps;
+        }
+
+        /**
+         * @return the format from which this was compiled
+         */
+        public String getFormat() {
+            return format;
+        }
+    }
+
+    /**
+     * A {@link Formatter} like implementation which {@link Appender} objects can use to format their message according
+     * to the {@link net.ocheyedan.uncial.Formatter.Printf} appender format.
+     */
+    static class Appender {
+
+        private final Buffer buffer = new Buffer();
+
+        public String format(Meta meta, String level, String formattedMessage, String format) {
+            return format(meta, level, formattedMessage, Layout.compile(format));
+        }
+
+        public String format(Meta meta, String level, String formattedMessage, Layout layout) {
+            buffer.clear();
+            StringBuilder buffer = this.buffer.get();
+            render(buffer, meta, level, formattedMessage, layout);
             return buffer.toString();
         }
 
+        /**
+         * As {@link #format(Meta, String, String, Layout)} but appends to {@code buffer} rather than creating a string.
+         * @param buffer to which to append
+         * @param meta of the log message
+         * @param level of the log message
+         * @param formattedMessage the log message or, if deferred, null (and it is rendered in place from {@code meta},
+         *                         see {@link LogEvent#render(StringBuilder, Meta, String)})
+         * @param layout the compiled appender format
+         */
+        public void render(StringBuilder buffer, Meta meta, String level, String formattedMessage, Layout layout) {
+            byte[] tokens = layout.tokens;
+            for (int i = 0; i < tokens.length; i++) {
+                switch (tokens[i]) {
+                    case Layout.LITERAL:
+                        buffer.append(layout.literals[i]);
+                        break;
+                    case Layout.THREAD:
+                        if (meta.invokingThreadName() != null) {
+                            buffer.append(meta.invokingThreadName());
+                        }
+                        break;
+                    case Layout.FILE:
+                        if (meta.invokingFileName() != null) {
+                            buffer.append(meta.invokingFileName());
+                        }
+                        break;
+                    case Layout.CLASS:
+                        if (meta.invokingClassName() != null) {
+                            buffer.append(meta.invokingClassName());
+                        }
+                        break;
+                    case Layout.METHOD:
+                        if (meta.invokingMethodName() != null) {
+                            buffer.append(meta.invokingMethodName());
+                        }
+                        break;
+                    case Layout.LINE:
+                        if (meta instanceof LogEvent) {
+                            LogEvent event = (LogEvent) meta; // avoid boxing the line number
+                            if (event.hasLineNumber) {
+                                buffer.append(event.invokingLineNumber);
+                            }
+                        } else if (meta.invokingLineNumber() != null) {
+                            buffer.append(meta.invokingLineNumber());
+                        }
+                        break;
+                    case Layout.LEVEL:
+                        buffer.append(level);
+                        break;
+                    case Layout.DATE:
+                        layout.timestamps[i].appendTo(buffer, meta.invokingEpochTime());
+                        break;
+                    case Layout.MESSAGE:
+                        LogEvent.render(buffer, meta, formattedMessage);
+                        break;
+                    default:
+                        throw new AssertionError("Unknown token " + tokens[i]);
+                }
+            }
+        }
+
     }
 
     /**
@@ -0,0 +1,13 @@
+package net.ocheyedan.uncial;
+
+/**
+ * User: blangel
+ * Date: 6/14/12
+ * Time: 11:05 AM
+ *
+ * Marks a type whose instances never change (including their {@link Object#toString()} value) so that, as log
+ * parameters, they may be formatted after the log call returns and on another thread.
+ * @see UncialConfig#setDeferredFormatting(boolean)
+ */
+public interface Immutable {
+}
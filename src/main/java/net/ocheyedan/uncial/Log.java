@@ -1,5 +1,7 @@
 package net.ocheyedan.uncial;
 
+import java.util.function.Supplier;
+
 /**
  * User: blangel
  * Date: 3/10/12
@@ -87,6 +89,906 @@ public final class Log {
         log(Loggers.invokingLogClass(), Logger.error, message, params);
     }
 
+    /**
+     * As {@link #trace(String, Object...)} but allocates the parameter array only if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, Object param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} but allocates the parameter array only if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     */
+    public static void trace(String message, Object param1, Object param2) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param1, param2);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} but allocates the parameter array only if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     */
+    public static void trace(String message, Object param1, Object param2, Object param3) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} but allocates the parameter array only if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     * @param param4 the fourth to substitute into {@code message}
+     */
+    public static void trace(String message, Object param1, Object param2, Object param3, Object param4) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, int param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, long param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, double param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, boolean param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, char param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, float param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, short param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void trace(String message, byte param) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} but allocates the parameter array only if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, Object param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} but allocates the parameter array only if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     */
+    public static void debug(String message, Object param1, Object param2) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param1, param2);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} but allocates the parameter array only if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     */
+    public static void debug(String message, Object param1, Object param2, Object param3) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} but allocates the parameter array only if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     * @param param4 the fourth to substitute into {@code message}
+     */
+    public static void debug(String message, Object param1, Object param2, Object param3, Object param4) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, int param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, long param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, double param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, boolean param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, char param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, float param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, short param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void debug(String message, byte param) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} but allocates the parameter array only if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, Object param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} but allocates the parameter array only if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     */
+    public static void info(String message, Object param1, Object param2) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param1, param2);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} but allocates the parameter array only if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     */
+    public static void info(String message, Object param1, Object param2, Object param3) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} but allocates the parameter array only if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     * @param param4 the fourth to substitute into {@code message}
+     */
+    public static void info(String message, Object param1, Object param2, Object param3, Object param4) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, int param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, long param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, double param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, boolean param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, char param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, float param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, short param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void info(String message, byte param) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} but allocates the parameter array only if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, Object param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} but allocates the parameter array only if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     */
+    public static void warn(String message, Object param1, Object param2) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param1, param2);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} but allocates the parameter array only if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     */
+    public static void warn(String message, Object param1, Object param2, Object param3) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} but allocates the parameter array only if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     * @param param4 the fourth to substitute into {@code message}
+     */
+    public static void warn(String message, Object param1, Object param2, Object param3, Object param4) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, int param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, long param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, double param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, boolean param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, char param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, float param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, short param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void warn(String message, byte param) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} but allocates the parameter array only if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, Object param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} but allocates the parameter array only if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     */
+    public static void error(String message, Object param1, Object param2) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param1, param2);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} but allocates the parameter array only if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     */
+    public static void error(String message, Object param1, Object param2, Object param3) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} but allocates the parameter array only if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 the first to substitute into {@code message}
+     * @param param2 the second to substitute into {@code message}
+     * @param param3 the third to substitute into {@code message}
+     * @param param4 the fourth to substitute into {@code message}
+     */
+    public static void error(String message, Object param1, Object param2, Object param3, Object param4) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, int param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, long param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, double param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, boolean param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, char param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, float param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, short param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with {@code param} but without boxing it.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param to substitute into {@code message}
+     */
+    public static void error(String message, byte param) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param);
+    }
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) for level {@link Logger#trace}; the
+     * supplier is only invoked if {@link Logger#trace} is enabled.
+     * @param message supplier of the message
+     */
+    public static void trace(Supplier<String> message) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     */
+    public static void trace(String message, Supplier<?> param1) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param1);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     */
+    public static void trace(String message, Supplier<?> param1, Supplier<?> param2) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param1, param2);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     */
+    public static void trace(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     * @param param4 supplier of the fourth to substitute into {@code message}
+     */
+    public static void trace(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                             Supplier<?> param4) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #trace(String, Object...)} with the values supplied by {@code params}; the suppliers are only
+     * invoked if {@link Logger#trace} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param params suppliers of the values to substitute into {@code message}
+     */
+    public static void trace(String message, Supplier<?> ... params) {
+        Loggers.get(Loggers.invokingLogClass()).trace(message, params);
+    }
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) for level {@link Logger#debug}; the
+     * supplier is only invoked if {@link Logger#debug} is enabled.
+     * @param message supplier of the message
+     */
+    public static void debug(Supplier<String> message) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     */
+    public static void debug(String message, Supplier<?> param1) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param1);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     */
+    public static void debug(String message, Supplier<?> param1, Supplier<?> param2) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param1, param2);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     */
+    public static void debug(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     * @param param4 supplier of the fourth to substitute into {@code message}
+     */
+    public static void debug(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                             Supplier<?> param4) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #debug(String, Object...)} with the values supplied by {@code params}; the suppliers are only
+     * invoked if {@link Logger#debug} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param params suppliers of the values to substitute into {@code message}
+     */
+    public static void debug(String message, Supplier<?> ... params) {
+        Loggers.get(Loggers.invokingLogClass()).debug(message, params);
+    }
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) for level {@link Logger#info}; the
+     * supplier is only invoked if {@link Logger#info} is enabled.
+     * @param message supplier of the message
+     */
+    public static void info(Supplier<String> message) {
+        Loggers.get(Loggers.invokingLogClass()).info(message);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     */
+    public static void info(String message, Supplier<?> param1) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param1);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     */
+    public static void info(String message, Supplier<?> param1, Supplier<?> param2) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param1, param2);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     */
+    public static void info(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     * @param param4 supplier of the fourth to substitute into {@code message}
+     */
+    public static void info(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                            Supplier<?> param4) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #info(String, Object...)} with the values supplied by {@code params}; the suppliers are only
+     * invoked if {@link Logger#info} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param params suppliers of the values to substitute into {@code message}
+     */
+    public static void info(String message, Supplier<?> ... params) {
+        Loggers.get(Loggers.invokingLogClass()).info(message, params);
+    }
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) for level {@link Logger#warn}; the
+     * supplier is only invoked if {@link Logger#warn} is enabled.
+     * @param message supplier of the message
+     */
+    public static void warn(Supplier<String> message) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     */
+    public static void warn(String message, Supplier<?> param1) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param1);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     */
+    public static void warn(String message, Supplier<?> param1, Supplier<?> param2) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param1, param2);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     */
+    public static void warn(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     * @param param4 supplier of the fourth to substitute into {@code message}
+     */
+    public static void warn(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                            Supplier<?> param4) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #warn(String, Object...)} with the values supplied by {@code params}; the suppliers are only
+     * invoked if {@link Logger#warn} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param params suppliers of the values to substitute into {@code message}
+     */
+    public static void warn(String message, Supplier<?> ... params) {
+        Loggers.get(Loggers.invokingLogClass()).warn(message, params);
+    }
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) for level {@link Logger#error}; the
+     * supplier is only invoked if {@link Logger#error} is enabled.
+     * @param message supplier of the message
+     */
+    public static void error(Supplier<String> message) {
+        Loggers.get(Loggers.invokingLogClass()).error(message);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     */
+    public static void error(String message, Supplier<?> param1) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param1);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     */
+    public static void error(String message, Supplier<?> param1, Supplier<?> param2) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param1, param2);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     */
+    public static void error(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param1, param2, param3);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only
+     * invoked if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param param1 supplier of the first to substitute into {@code message}
+     * @param param2 supplier of the second to substitute into {@code message}
+     * @param param3 supplier of the third to substitute into {@code message}
+     * @param param4 supplier of the fourth to substitute into {@code message}
+     */
+    public static void error(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                             Supplier<?> param4) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, param1, param2, param3, param4);
+    }
+
+    /**
+     * As {@link #error(String, Object...)} with the values supplied by {@code params}; the suppliers are only
+     * invoked if {@link Logger#error} is enabled.
+     * @param message the formatted message (formatted a la {@link String#format(String, Object...)})
+     * @param params suppliers of the values to substitute into {@code message}
+     */
+    public static void error(String message, Supplier<?> ... params) {
+        Loggers.get(Loggers.invokingLogClass()).error(message, params);
+    }
+
     /**
      * Serializes the stack-trace of {@code t} and logs that at level {@link Logger#error} and then calls
      * {@link #error(String, Object...)} with {@code message} and {@code params} as parameters.
@@ -104,11 +1006,8 @@ public final class Log {
     }
 
     private static void log(Class<?> loggingFor, String level, String message, Object ... params) {
-        // check level before delegation to {@link #log(Meta, String, String, Object[]}  as creation of Meta may be expensive
-        if (!Loggers.isEnabled(level, loggingFor)) {
-            return;
-        }
-        log(Loggers.meta(loggingFor, null, null, null, Thread.currentThread().getName(), System.currentTimeMillis()), level, message, params);
+        // the logger constructs the Meta information (in place) only if enabled
+        Loggers.get(loggingFor).log(level, message, params);
     }
 
     private Log() { }
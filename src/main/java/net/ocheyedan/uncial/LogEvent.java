@@ -0,0 +1,363 @@
+package net.ocheyedan.uncial;
+
+import java.util.Arrays;
+
+/**
+ * User: blangel
+ * Date: 6/2/12
+ * Time: 8:14 AM
+ *
+ * A mutable holder of the information associated with a single log invocation.  Instances are preallocated by
+ * {@link RingBuffer} (and {@link ProducerBuffer}) and reused for every log event which passes through the slot; they
+ * must never escape the distribution thread which currently owns them.  Each logging thread also has an instance which
+ * is populated in place as the {@link Meta} of its log calls (see {@link Loggers#meta(LogEvent, Class, long)}).
+ * <p/>
+ * The meta information is copied (never referenced) from the {@link Meta} given to {@link #set(Meta, String, String)}
+ * and the event is itself handed to the appenders as the {@link Meta}; a read-only view.  The line number is kept
+ * unboxed and only boxed if an appender asks for it.
+ * <p/>
+ * The message may be deferred (see {@link #defer(Formatter, String, Object[], boolean)}) in which case it is formatted,
+ * once, by the first thread to ask for it via {@link #message(Meta, String)}, or rendered straight into the appender's
+ * output via {@link #render(StringBuilder, Meta, String)}.  The parameters of a deferred message which outlives its log
+ * call are copied into an array reused by the event rather than a new array per event.
+ */
+final class LogEvent implements Meta {
+
+    private static final long serialVersionUID = -4207731484315392178L;
+
+    /**
+     * The most parameters of a deferred message held in an array reused by the event (see {@link #params(int)}).
+     */
+    private static final int MAX_REUSED_PARAMS = 4;
+
+    Class<?> invokingClass;
+
+    String invokingMethodName;
+
+    /**
+     * Only meaningful if {@link #hasLineNumber}.
+     */
+    int invokingLineNumber;
+
+    boolean hasLineNumber;
+
+    String invokingFileName;
+
+    String threadName;
+
+    long epochTime;
+
+    String level;
+
+    String formattedMessage;
+
+    /**
+     * The formatter, template and parameters of a deferred message; null unless deferred.
+     */
+    Formatter formatter;
+
+    String template;
+
+    Object[] params;
+
+    /**
+     * True if the deferred message's parameters are all immutable, so that it may be formatted on another thread after
+     * the log call returns; otherwise it must be formatted before the log call returns (see {@link #set}).
+     */
+    boolean portable;
+
+    /**
+     * The arrays, indexed by length, reused for the parameters of this event's deferred messages; created on first use.
+     */
+    private Object[][] reusedParams;
+
+    /**
+     * Set once the deferred message has been rendered in place (see {@link #render(StringBuilder, Meta, String)}); any
+     * later rendering formats (and keeps) the message rather than formatting it again per appender.
+     */
+    boolean rendered;
+
+    /**
+     * Set while a logging thread's instance is the {@link Meta} of one of its log calls; if that call logs again (e.g.,
+     * from a parameter's {@link Object#toString()} or from an appender) the nested call must not reuse the instance.
+     */
+    boolean inUse;
+
+    /**
+     * @param meta from which to copy the meta information; may be null
+     * @param level of the event
+     * @param formattedMessage of the event
+     */
+    void set(Meta meta, String level, String formattedMessage) {
+        set(meta, level, formattedMessage, false);
+    }
+
+    /**
+     * As {@link #set(Meta, String, String)} but a deferred message stays deferred whatever its parameters; for a copy
+     * which is handed to the appenders before the log call returns (and so while its parameters are as logged).
+     * @param meta from which to copy the meta information; may be null
+     * @param level of the event
+     * @param formattedMessage of the event
+     */
+    void setUntilReturn(Meta meta, String level, String formattedMessage) {
+        set(meta, level, formattedMessage, true);
+    }
+
+    private void set(Meta meta, String level, String formattedMessage, boolean untilReturn) {
+        if (meta instanceof LogEvent) {
+            LogEvent event = (LogEvent) meta;
+            setMeta(event.invokingClass, event.invokingMethodName, event.hasLineNumber, event.invokingLineNumber,
+                    event.invokingFileName, event.threadName, event.epochTime);
+            if (!untilReturn && event.portable && (formattedMessage == null)) {
+                // the copy outlives the log call; the parameters are immutable but their array may be reused
+                defer(event.formatter, event.template, copyParams(event.params), true);
+            } else if (untilReturn || event.portable || (event.template == null) || (formattedMessage != null)) {
+                defer(event.formatter, event.template, event.params, event.portable);
+            } else {
+                // the copy outlives the log call, format now; the template is kept for messageLength
+                formattedMessage = copyMessage(event);
+                defer(null, event.template, null, false);
+            }
+        } else if (meta != null) {
+            Integer lineNumber = meta.invokingLineNumber();
+            setMeta(meta.invokingClass(), meta.invokingMethodName(), (lineNumber != null),
+                    (lineNumber == null ? 0 : lineNumber), meta.invokingFileName(), meta.invokingThreadName(),
+                    meta.invokingEpochTime());
+            defer(null, null, null, false);
+        } else {
+            setMeta(null, null, false, 0, null, null, 0L);
+            defer(null, null, null, false);
+        }
+        this.level = level;
+        this.formattedMessage = formattedMessage;
+    }
+
+    void setMeta(Class<?> invokingClass, String invokingMethodName, boolean hasLineNumber, int invokingLineNumber,
+                 String invokingFileName, String threadName, long epochTime) {
+        this.invokingClass = invokingClass;
+        this.invokingMethodName = invokingMethodName;
+        this.hasLineNumber = hasLineNumber;
+        this.invokingLineNumber = invokingLineNumber;
+        this.invokingFileName = invokingFileName;
+        this.threadName = threadName;
+        this.epochTime = epochTime;
+    }
+
+    /**
+     * Defers the formatting of this event's message, which is expected to be null, until asked for.
+     * @param formatter with which to format the message
+     * @param template of the message
+     * @param params of the message
+     * @param portable true if all {@code params} are immutable; see {@link #portable}
+     */
+    void defer(Formatter formatter, String template, Object[] params, boolean portable) {
+        this.formatter = formatter;
+        this.template = template;
+        this.params = params;
+        this.portable = portable;
+        this.rendered = false;
+    }
+
+    /**
+     * @param length of the array
+     * @return an array of {@code length} reused by this event for the parameters of its deferred messages (emptied by
+     *         {@link #clear()}) or, if {@code length} is over {@link #MAX_REUSED_PARAMS}, a new array
+     */
+    Object[] params(int length) {
+        if (length > MAX_REUSED_PARAMS) {
+            return new Object[length];
+        }
+        if (reusedParams == null) {
+            reusedParams = new Object[MAX_REUSED_PARAMS + 1][];
+        }
+        Object[] params = reusedParams[length];
+        if (params == null) {
+            params = new Object[length];
+            reusedParams[length] = params;
+        }
+        return params;
+    }
+
+    /**
+     * @return a copy of {@code params} within an array of this event (see {@link #params(int)}); null if null
+     */
+    private Object[] copyParams(Object[] params) {
+        if (params == null) {
+            return null;
+        }
+        Object[] copy = params(params.length);
+        System.arraycopy(params, 0, copy, 0, params.length);
+        return copy;
+    }
+
+    /**
+     * Formats the deferred message of {@code meta}, if it is an event whose deferred message may not outlive the log
+     * call; to be invoked by distributors which hand the event to the appenders only after the log call returns.
+     * @param meta of the event
+     */
+    static void resolve(Meta meta) {
+        if (meta instanceof LogEvent) {
+            LogEvent event = (LogEvent) meta;
+            if (!event.portable && (event.template != null)) {
+                message(event, null);
+            }
+        }
+    }
+
+    /**
+     * @return the message of {@code event}, formatted now if deferred, without propagating formatting failures (the
+     *         caller may have claimed space for the copy which it must go on to publish)
+     */
+    private static String copyMessage(LogEvent event) {
+        try {
+            return message(event, null);
+        } catch (RuntimeException re) {
+            System.err.println(re.getMessage());
+            return event.template;
+        }
+    }
+
+    /**
+     * @param meta of the event
+     * @param formattedMessage of the event; null if deferred
+     * @return true if there is a message; i.e., {@code formattedMessage} is non-null or {@code meta} is an event with a
+     *         message
+     */
+    static boolean hasMessage(Meta meta, String formattedMessage) {
+        if (formattedMessage != null) {
+            return true;
+        }
+        if (meta instanceof LogEvent) {
+            LogEvent event = (LogEvent) meta;
+            return ((event.formattedMessage != null) || (event.template != null));
+        }
+        return false;
+    }
+
+    /**
+     * Appends the message of the event to {@code buffer}; as {@link #message(Meta, String)} except that the first time a
+     * deferred message is asked for, if its formatter is {@link Formatter.Rendering}, it is formatted straight into
+     * {@code buffer} rather than into a string which is then copied.
+     * @param buffer to which to append the message
+     * @param meta of the event
+     * @param formattedMessage of the event; null if deferred
+     */
+    static void render(StringBuilder buffer, Meta meta, String formattedMessage) {
+        if ((formattedMessage == null) && (meta instanceof LogEvent)) {
+            LogEvent event = (LogEvent) meta;
+            if ((event.formattedMessage == null) && (event.template != null) && !event.rendered
+                    && (event.formatter instanceof Formatter.Rendering)) {
+                event.rendered = true;
+                int start = buffer.length();
+                try {
+                    ((Formatter.Rendering) event.formatter).render(buffer, event.template, event.params);
+                    return;
+                } catch (RuntimeException re) {
+                    buffer.setLength(start);
+                    failed(event, re);
+                }
+            }
+        }
+        buffer.append(message(meta, formattedMessage));
+    }
+
+    /**
+     * @param meta of the event
+     * @param formattedMessage of the event; null if deferred
+     * @return {@code formattedMessage} or, if null and {@code meta} is an event with a deferred message, that message
+     *         formatted
+     */
+    static String message(Meta meta, String formattedMessage) {
+        if ((formattedMessage != null) || !(meta instanceof LogEvent)) {
+            return formattedMessage;
+        }
+        LogEvent event = (LogEvent) meta;
+        if ((event.formattedMessage == null) && (event.template != null)) {
+            try {
+                event.formattedMessage = event.formatter.format(event.template, event.params);
+            } catch (RuntimeException re) {
+                failed(event, re);
+            }
+        }
+        return event.formattedMessage;
+    }
+
+    /**
+     * Handles the failure to format the deferred message of {@code event}.
+     * @param event whose message failed to format
+     * @param re the failure
+     * @throws RuntimeException {@code re} if {@code event} is not {@link #portable}; it is then being formatted on the
+     *                          logging thread, which fails as it would have had the message not been deferred
+     */
+    private static void failed(LogEvent event, RuntimeException re) {
+        if (!event.portable) {
+            throw re;
+        }
+        // the logging thread has long since returned; report and log the template rather than lose the event
+        System.err.println(re.getMessage());
+        event.formattedMessage = event.template;
+    }
+
+    /**
+     * @param meta of the event
+     * @param formattedMessage of the event; null if deferred
+     * @return the length of {@code formattedMessage} or, if deferred, of the template of {@code meta}; the estimate by
+     *         which the bytes of queued events are budgeted (the same before and after the message is formatted).
+     */
+    static int messageLength(Meta meta, String formattedMessage) {
+        if ((meta instanceof LogEvent) && (((LogEvent) meta).template != null)) {
+            return ((LogEvent) meta).template.length();
+        }
+        return (formattedMessage == null ? 0 : formattedMessage.length());
+    }
+
+    /**
+     * Drops all references so that the previous event's objects may be garbage collected while the slot is idle.
+     */
+    void clear() {
+        this.invokingClass = null;
+        this.invokingMethodName = null;
+        this.invokingFileName = null;
+        this.threadName = null;
+        this.level = null;
+        this.formattedMessage = null;
+        this.formatter = null;
+        this.template = null;
+        if ((params != null) && (params.length <= MAX_REUSED_PARAMS) && (reusedParams != null)
+                && (reusedParams[params.length] == params)) {
+            Arrays.fill(params, null);
+        }
+        this.params = null;
+        this.portable = false;
+        this.rendered = false;
+    }
+
+    @Override public Class<?> invokingClass() {
+        return invokingClass;
+    }
+
+    @Override public String invokingClassName() {
+        return (invokingClass == null ? null : invokingClass.getName());
+    }
+
+    @Override public String invokingMethodName() {
+        return invokingMethodName;
+    }
+
+    @Override public Integer invokingLineNumber() {
+        return (hasLineNumber ? invokingLineNumber : null);
+    }
+
+    @Override public String invokingFileName() {
+        return invokingFileName;
+    }
+
+    @Override public String invokingThreadName() {
+        return threadName;
+    }
+
+    @Override public long invokingEpochTime() {
+        return epochTime;
+    }
+
+}
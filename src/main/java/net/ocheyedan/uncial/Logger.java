@@ -1,5 +1,7 @@
 package net.ocheyedan.uncial;
 
+import java.util.function.Supplier;
+
 /**
  * User: blangel
  * Date: 3/9/12
@@ -101,6 +103,691 @@ public interface Logger extends org.slf4j.Logger {
     @SuppressWarnings("overrides") // doesn't seem to suppress, need to give javac "-Xlint:-overrides" (in ply, -Pcompiler.warnings=-overrides)
     void error(String message, Object ... params);
 
+    /**
+     * Calls {@link #trace(String, Object...)} but allocates the parameter array only if {@link #trace} is enabled (the one
+     * and two parameter equivalents are those of {@link org.slf4j.Logger}).
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     */
+    void trace(String message, Object param1, Object param2, Object param3);
+
+    /**
+     * Calls {@link #trace(String, Object...)} but allocates the parameter array only if {@link #trace} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     * @param param4 the fourth parameter to the formatted message
+     */
+    void trace(String message, Object param1, Object param2, Object param3, Object param4);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, int param);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, long param);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, double param);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, boolean param);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, char param);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, float param);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, short param);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #trace} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void trace(String message, byte param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} but allocates the parameter array only if {@link #debug} is enabled (the one
+     * and two parameter equivalents are those of {@link org.slf4j.Logger}).
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     */
+    void debug(String message, Object param1, Object param2, Object param3);
+
+    /**
+     * Calls {@link #debug(String, Object...)} but allocates the parameter array only if {@link #debug} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     * @param param4 the fourth parameter to the formatted message
+     */
+    void debug(String message, Object param1, Object param2, Object param3, Object param4);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, int param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, long param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, double param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, boolean param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, char param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, float param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, short param);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #debug} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void debug(String message, byte param);
+
+    /**
+     * Calls {@link #info(String, Object...)} but allocates the parameter array only if {@link #info} is enabled (the one
+     * and two parameter equivalents are those of {@link org.slf4j.Logger}).
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     */
+    void info(String message, Object param1, Object param2, Object param3);
+
+    /**
+     * Calls {@link #info(String, Object...)} but allocates the parameter array only if {@link #info} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     * @param param4 the fourth parameter to the formatted message
+     */
+    void info(String message, Object param1, Object param2, Object param3, Object param4);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, int param);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, long param);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, double param);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, boolean param);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, char param);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, float param);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, short param);
+
+    /**
+     * Calls {@link #info(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #info} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void info(String message, byte param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} but allocates the parameter array only if {@link #warn} is enabled (the one
+     * and two parameter equivalents are those of {@link org.slf4j.Logger}).
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     */
+    void warn(String message, Object param1, Object param2, Object param3);
+
+    /**
+     * Calls {@link #warn(String, Object...)} but allocates the parameter array only if {@link #warn} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     * @param param4 the fourth parameter to the formatted message
+     */
+    void warn(String message, Object param1, Object param2, Object param3, Object param4);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, int param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, long param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, double param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, boolean param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, char param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, float param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, short param);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #warn} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void warn(String message, byte param);
+
+    /**
+     * Calls {@link #error(String, Object...)} but allocates the parameter array only if {@link #error} is enabled (the one
+     * and two parameter equivalents are those of {@link org.slf4j.Logger}).
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     */
+    void error(String message, Object param1, Object param2, Object param3);
+
+    /**
+     * Calls {@link #error(String, Object...)} but allocates the parameter array only if {@link #error} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 the first parameter to the formatted message
+     * @param param2 the second parameter to the formatted message
+     * @param param3 the third parameter to the formatted message
+     * @param param4 the fourth parameter to the formatted message
+     */
+    void error(String message, Object param1, Object param2, Object param3, Object param4);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, int param);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, long param);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, double param);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, boolean param);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, char param);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, float param);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, short param);
+
+    /**
+     * Calls {@link #error(String, Object...)} with {@code param} but without boxing it; nothing is allocated if
+     * {@link #error} is not enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param to the formatted message
+     */
+    void error(String message, byte param);
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) with {@link #trace} as the level; the
+     * supplier is only invoked if {@link #trace} is enabled.
+     * @param message supplier of the message
+     */
+    void trace(Supplier<String> message);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #trace} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     */
+    void trace(String message, Supplier<?> param1);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #trace} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     */
+    void trace(String message, Supplier<?> param1, Supplier<?> param2);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #trace} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     */
+    void trace(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #trace} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     * @param param4 supplier of the fourth parameter to the formatted message
+     */
+    void trace(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3, Supplier<?> param4);
+
+    /**
+     * Calls {@link #trace(String, Object...)} with the values supplied by {@code params}; the suppliers are only invoked
+     * if {@link #trace} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param params suppliers of the parameters to the formatted message
+     */
+    void trace(String message, Supplier<?> ... params);
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) with {@link #debug} as the level; the
+     * supplier is only invoked if {@link #debug} is enabled.
+     * @param message supplier of the message
+     */
+    void debug(Supplier<String> message);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #debug} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     */
+    void debug(String message, Supplier<?> param1);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #debug} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     */
+    void debug(String message, Supplier<?> param1, Supplier<?> param2);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #debug} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     */
+    void debug(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #debug} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     * @param param4 supplier of the fourth parameter to the formatted message
+     */
+    void debug(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3, Supplier<?> param4);
+
+    /**
+     * Calls {@link #debug(String, Object...)} with the values supplied by {@code params}; the suppliers are only invoked
+     * if {@link #debug} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param params suppliers of the parameters to the formatted message
+     */
+    void debug(String message, Supplier<?> ... params);
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) with {@link #info} as the level; the
+     * supplier is only invoked if {@link #info} is enabled.
+     * @param message supplier of the message
+     */
+    void info(Supplier<String> message);
+
+    /**
+     * Calls {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #info} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     */
+    void info(String message, Supplier<?> param1);
+
+    /**
+     * Calls {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #info} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     */
+    void info(String message, Supplier<?> param1, Supplier<?> param2);
+
+    /**
+     * Calls {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #info} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     */
+    void info(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3);
+
+    /**
+     * Calls {@link #info(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #info} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     * @param param4 supplier of the fourth parameter to the formatted message
+     */
+    void info(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3, Supplier<?> param4);
+
+    /**
+     * Calls {@link #info(String, Object...)} with the values supplied by {@code params}; the suppliers are only invoked
+     * if {@link #info} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param params suppliers of the parameters to the formatted message
+     */
+    void info(String message, Supplier<?> ... params);
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) with {@link #warn} as the level; the
+     * supplier is only invoked if {@link #warn} is enabled.
+     * @param message supplier of the message
+     */
+    void warn(Supplier<String> message);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #warn} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     */
+    void warn(String message, Supplier<?> param1);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #warn} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     */
+    void warn(String message, Supplier<?> param1, Supplier<?> param2);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #warn} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     */
+    void warn(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #warn} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     * @param param4 supplier of the fourth parameter to the formatted message
+     */
+    void warn(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3, Supplier<?> param4);
+
+    /**
+     * Calls {@link #warn(String, Object...)} with the values supplied by {@code params}; the suppliers are only invoked
+     * if {@link #warn} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param params suppliers of the parameters to the formatted message
+     */
+    void warn(String message, Supplier<?> ... params);
+
+    /**
+     * Logs the message supplied by {@code message} (which is not formatted) with {@link #error} as the level; the
+     * supplier is only invoked if {@link #error} is enabled.
+     * @param message supplier of the message
+     */
+    void error(Supplier<String> message);
+
+    /**
+     * Calls {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #error} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     */
+    void error(String message, Supplier<?> param1);
+
+    /**
+     * Calls {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #error} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     */
+    void error(String message, Supplier<?> param1, Supplier<?> param2);
+
+    /**
+     * Calls {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #error} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     */
+    void error(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3);
+
+    /**
+     * Calls {@link #error(String, Object...)} with the values supplied by the parameters; the suppliers are only invoked
+     * if {@link #error} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param param1 supplier of the first parameter to the formatted message
+     * @param param2 supplier of the second parameter to the formatted message
+     * @param param3 supplier of the third parameter to the formatted message
+     * @param param4 supplier of the fourth parameter to the formatted message
+     */
+    void error(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3, Supplier<?> param4);
+
+    /**
+     * Calls {@link #error(String, Object...)} with the values supplied by {@code params}; the suppliers are only invoked
+     * if {@link #error} is enabled.
+     * @param message @see {@link #log(String, String, Object...)}
+     * @param params suppliers of the parameters to the formatted message
+     */
+    void error(String message, Supplier<?> ... params);
+
     /**
      * Logs the {@link Class} of {@code t} followed by the value of {@link Throwable#getMessage()} and then
      * the {@link String} value of {@link Throwable#printStackTrace(java.io.PrintWriter)}
@@ -19,26 +19,61 @@ public final class Loggers {
     /**
      * Users can specify whether logging to the registered {@link net.ocheyedan.uncial.appender.Appender} objects happens
      * on a separate thread (the default) or whether logging happens on the user's invoking thread.  User's specify
-     * single-threaded behavior via the system property {@literal uncial.singleThreaded}.
+     * single-threaded behavior via the system property {@literal uncial.singleThreaded} (and may have contending threads
+     * combine their writes via {@literal uncial.flatCombining}).  By default, events are handed to the separate thread
+     * via a preallocated ring buffer (with the number of slots given by {@literal uncial.ringBufferSize} and the
+     * maximum number of events handed to the appenders at once by {@literal uncial.batchSize}) bounded by the overflow
+     * policy and queue budget (see {@link UncialConfig#setOverflowPolicy(OverflowPolicy)}); applications logging from
+     * virtual threads may have that thread be a virtual thread via {@literal uncial.virtualThreads} (see
+     * {@link Distribution#VIRTUAL_THREADS}) and the appender threads of any of the distributions below be virtual
+     * threads via {@literal uncial.virtualThreadConsumer}.  Users may instead opt into the unbounded executor
+     * hand-off via the system property {@literal uncial.separateThread}, give each appender its own ring and thread via
+     * the system property {@literal uncial.perAppenderThreads} (the ring properties apply to each appender's ring),
+     * give each logging thread its own buffer via the system property {@literal uncial.striped} (with the number of
+     * slots per logging thread given by {@literal uncial.stripeSize}) or, where applying the appenders' formats is the
+     * bottleneck, have events formatted by a pool of threads via the system property
+     * {@literal uncial.parallelFormatting} (with the number of threads given by {@literal uncial.formattingThreads}).
+     * What these appender threads do while idle is given by {@literal uncial.waitStrategy} (see {@link WaitStrategy}).
+     * The choice may be changed while running via {@link UncialConfig#setDistribution(Distribution)}.  However events
+     * are distributed, the thread writing to an appender flushes it according to its {@link FlushPolicy}.
      */
-    static final Distributor appenderExecutor;
+    static final Distributor.Switchable appenderExecutor;
+
+    /**
+     * Milliseconds between checks for appenders whose unflushed output is older than their {@link FlushPolicy} allows.
+     */
+    private static final long FLUSH_CHECK_INTERVAL = 100L;
 
     static {
-        if (Boolean.getBoolean("uncial.singleThreaded")) {
-            appenderExecutor = new Distributor.InvokingThread();
-        } else {
-            appenderExecutor = new Distributor.SeparateThread();
-        }
-        // periodically flush the appenders
-        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory());
-        scheduler.scheduleAtFixedRate(new Runnable() {
+        appenderExecutor = new Distributor.Switchable(Distribution.fromSystemProperties());
+        // at shutdown; stop accepting events, drain those queued (within the timeout) and then flush/close the appenders
+        Thread shutdown = new Thread(new Runnable() {
             @Override public void run() {
+                long timeout = TimeUnit.MILLISECONDS.toNanos(UncialConfig.get().getShutdownTimeout());
+                int dropped = appenderExecutor.stop(timeout);
                 Collection<UncialConfig.AppenderConfig> appenderConfigs = UncialConfig.get().getAppenderConfigs();
                 for (UncialConfig.AppenderConfig appenderConfig : appenderConfigs) {
                     appenderConfig.appender.flush();
+                    appenderConfig.appender.close();
+                }
+                if (dropped > 0) {
+                    System.err.printf("Dropped %d log events at shutdown.%n", dropped);
                 }
             }
-        }, 15L, 15L, TimeUnit.SECONDS);
+        });
+        shutdown.setDaemon(true);
+        Runtime.getRuntime().addShutdownHook(shutdown);
+        // periodically have idle appenders whose output is over age flushed (by the thread writing to them)
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory());
+        scheduler.scheduleWithFixedDelay(new Runnable() {
+            @Override public void run() {
+                try {
+                    appenderExecutor.flushIfDue();
+                } catch (RuntimeException re) {
+                    System.err.println(re.getMessage());
+                }
+            }
+        }, FLUSH_CHECK_INTERVAL, FLUSH_CHECK_INTERVAL, TimeUnit.MILLISECONDS);
     }
 
     private static final ConcurrentMap<Class<?>, Logger> loggers = new ConcurrentHashMap<Class<?>, Logger>();
@@ -208,6 +243,32 @@ public final class Loggers {
         }
     }
 
+    /**
+     * As {@link #meta(Class, String, Integer, String, String, long)} for a log call which can provide none of the
+     * information itself but populates {@code into} in place rather than allocating a {@link Meta} object.
+     * @param into the event to populate
+     * @param loggingFor the {@link Class} for which to populate the {@link Meta} information
+     * @param epochTime the time at which the log occurred
+     * @return {@code into}
+     */
+    static Meta meta(LogEvent into, Class<?> loggingFor, long epochTime) {
+        if (loggingFor == null) {
+            throw new NullPointerException("Must provide for which class is being logged.");
+        }
+        String threadName = Thread.currentThread().getName();
+        UncialConfig uncialConfig = UncialConfig.get();
+        boolean need = (uncialConfig.needsMethodName(loggingFor) || uncialConfig.needsLineNumber(loggingFor)
+                            || uncialConfig.needsFileName(loggingFor));
+        if (need) {
+            StackTraceElement stackTraceElement = getCaller(new Exception().getStackTrace());
+            into.setMeta(loggingFor, stackTraceElement.getMethodName(), true, stackTraceElement.getLineNumber(),
+                         stackTraceElement.getFileName(), threadName, epochTime);
+        } else {
+            into.setMeta(loggingFor, null, false, 0, null, threadName, epochTime);
+        }
+        return into;
+    }
+
     /**
      * Retrieves the first {@link StackTraceElement} from {@code stackTrace} which is not related to {@literal uncial}.
      * Assumes {@code stackTrace} has at least one element which can be skipped as that is the point at which
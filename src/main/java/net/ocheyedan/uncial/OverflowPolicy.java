@@ -0,0 +1,43 @@
+package net.ocheyedan.uncial;
+
+/**
+ * User: blangel
+ * Date: 6/3/12
+ * Time: 10:05 AM
+ *
+ * Dictates what happens to a log event when the queue between the logging threads and the appender thread is over
+ * its budget (either in number of events or in approximate bytes of formatted messages).
+ * @see UncialConfig#setOverflowPolicy(OverflowPolicy)
+ */
+public enum OverflowPolicy {
+
+    /**
+     * The logging thread waits until the appender thread has made room.  No events are lost.
+     */
+    BLOCK,
+
+    /**
+     * Events whose level is less than the overflow level (see {@link UncialConfig#setOverflowLevel(String)}) are
+     * dropped; events at or above the overflow level wait as with {@link #BLOCK}.
+     */
+    DROP_BELOW_LEVEL,
+
+    /**
+     * The oldest queued events are dropped to make room for the new event; the logging thread never waits.
+     */
+    DROP_OLDEST,
+
+    /**
+     * The event is dropped and an {@link IllegalStateException} is thrown to the logging thread.
+     */
+    FAIL,
+
+    /**
+     * The event is appended to a memory-mapped spill file (see {@link UncialConfig#setSpillDirectory(String)}), as
+     * are all subsequent events until the appender thread has caught up; spilled events are handed to the appenders in
+     * order.  If the spill file is full (see {@link UncialConfig#setMaxSpillBytes(long)}) the logging thread waits as
+     * with {@link #BLOCK}.  No events are lost, unless still spilled at shutdown.
+     */
+    SPILL
+
+}
@@ -0,0 +1,115 @@
+package net.ocheyedan.uncial;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * User: blangel
+ * Date: 6/6/12
+ * Time: 6:52 AM
+ *
+ * A fixed-capacity, preallocated ring of {@link LogEvent} slots written by exactly one producer thread (its owner) and
+ * read by exactly one consumer thread.  As there is only one writer of each cursor, no compare-and-set is needed and
+ * producers never contend with one another.
+ */
+final class ProducerBuffer {
+
+    private final LogEvent[] slots;
+
+    private final int mask;
+
+    /**
+     * The next position to be written; only ever written by the owner.
+     */
+    private final AtomicLong tail = new AtomicLong(0L);
+
+    /**
+     * The next position to be read; only ever written by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong(0L);
+
+    private final WeakReference<Thread> owner;
+
+    /**
+     * Distinguishes this buffer from others when ordering events of equal time.
+     */
+    final int id;
+
+    /**
+     * @param capacity the number of slots; rounded up to the nearest power of two.
+     * @param owner the only thread which may {@link #offer(Meta, String, String)}
+     * @param id to distinguish this buffer from others
+     */
+    ProducerBuffer(int capacity, Thread owner, int id) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size = size << 1;
+        }
+        this.slots = new LogEvent[size];
+        for (int i = 0; i < size; i++) {
+            this.slots[i] = new LogEvent();
+        }
+        this.mask = size - 1;
+        this.owner = new WeakReference<Thread>(owner);
+        this.id = id;
+    }
+
+    /**
+     * To be called only by the owner.
+     * @param meta of the event
+     * @param level of the event
+     * @param formattedMessage of the event
+     * @return true if the event was placed in the buffer; false if the buffer is full
+     */
+    boolean offer(Meta meta, String level, String formattedMessage) {
+        long position = tail.get();
+        if ((position - head.get()) == slots.length) {
+            return false;
+        }
+        LogEvent slot = slots[index(position)];
+        slot.set(meta, level, formattedMessage);
+        tail.set(position + 1L);
+        return true;
+    }
+
+    /**
+     * To be called only by the consumer.
+     * @return the oldest event within the buffer or null if the buffer is empty
+     */
+    LogEvent peek() {
+        long position = head.get();
+        return (position == tail.get() ? null : slots[index(position)]);
+    }
+
+    /**
+     * To be called only by the consumer after it is done with the event returned by {@link #peek()}.
+     */
+    void advance() {
+        long position = head.get();
+        slots[index(position)].clear();
+        head.lazySet(position + 1L);
+    }
+
+    /**
+     * @return the number of events written but not yet read.
+     */
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+    /**
+     * @return true if the owning thread has terminated and the buffer is empty (i.e., the buffer can be discarded).
+     */
+    boolean isAbandoned() {
+        Thread thread = owner.get();
+        return (((thread == null) || !thread.isAlive()) && (peek() == null));
+    }
+
+    private int index(long position) {
+        return (int) (position & mask);
+    }
+
+}
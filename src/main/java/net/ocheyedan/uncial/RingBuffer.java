@@ -0,0 +1,182 @@
+package net.ocheyedan.uncial;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * User: blangel
+ * Date: 6/2/12
+ * Time: 8:20 AM
+ *
+ * A fixed-capacity ring of preallocated {@link LogEvent} slots.  Any number of producer threads may claim slots
+ * concurrently (lock-free, via compare-and-set on the producer cursor) and a single consumer thread reads them back in
+ * claim order.  Producers may also discard the oldest published events when shedding load.  No allocation happens after
+ * construction.
+ * <p/>
+ * Each slot carries a sequence number describing its state: a slot at index {@code i} whose sequence equals the
+ * claimable position {@code p} (where {@code p & mask == i}) is free, one whose sequence is {@code p + 1} has been
+ * published and is readable by the consumer.  Once consumed the slot's sequence is advanced by the capacity, making it
+ * free for the next lap around the ring.
+ */
+final class RingBuffer {
+
+    private final LogEvent[] slots;
+
+    private final AtomicLongArray sequences;
+
+    private final int mask;
+
+    /**
+     * The next position to be claimed by a producer.
+     */
+    private final AtomicLong tail;
+
+    /**
+     * The next position to be read; advanced by the consumer when draining and by producers when discarding.
+     */
+    private final AtomicLong head;
+
+    /**
+     * @param capacity the number of slots; rounded up to the nearest power of two.
+     */
+    RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity) {
+            size = size << 1;
+        }
+        this.slots = new LogEvent[size];
+        this.sequences = new AtomicLongArray(size);
+        for (int i = 0; i < size; i++) {
+            this.slots[i] = new LogEvent();
+            this.sequences.set(i, i);
+        }
+        this.mask = size - 1;
+        this.tail = new AtomicLong(0L);
+        this.head = new AtomicLong(0L);
+    }
+
+    /**
+     * @return the number of slots within this ring.
+     */
+    int capacity() {
+        return slots.length;
+    }
+
+    /**
+     * @return the number of claimed slots which have not yet been drained or discarded.
+     */
+    int size() {
+        return (int) Math.max(0L, tail.get() - head.get());
+    }
+
+    /**
+     * Attempts to claim the next slot for writing.  If successful the caller must populate {@link #get(long)} and then
+     * call {@link #publish(long)} with the returned position.
+     * @return the claimed position or -1 if the ring is full.
+     */
+    long tryClaim() {
+        for (;;) {
+            long position = tail.get();
+            long sequence = sequences.get(index(position));
+            long difference = sequence - position;
+            if (difference == 0L) {
+                if (tail.compareAndSet(position, position + 1L)) {
+                    return position;
+                }
+            } else if (difference < 0L) {
+                return -1L; // the slot from the previous lap has not yet been consumed
+            }
+            // else; another producer claimed position, retry with the updated tail
+        }
+    }
+
+    /**
+     * @param position a position returned from {@link #tryClaim()}
+     * @return the slot associated with {@code position}
+     */
+    LogEvent get(long position) {
+        return slots[index(position)];
+    }
+
+    /**
+     * Makes the slot at {@code position} visible to the consumer.
+     * @param position the value returned from {@link #tryClaim()}
+     */
+    void publish(long position) {
+        sequences.set(index(position), position + 1L);
+    }
+
+    /**
+     * To be called only by the consumer thread.  Copies, at most {@code into.length}, consecutive published events
+     * (in claim order) into the consumer-owned {@code into} holders and frees their slots for producers.  Copying
+     * out (rather than processing in place) means a consumer stalled on a slow appender holds no slots, so producers
+     * may still {@link #discardOldest()}.
+     * @param into the consumer's preallocated batch to populate
+     * @return the number of events copied into {@code into}; 0 if none are published.
+     */
+    int drainTo(LogEvent[] into) {
+        for (;;) {
+            long position = head.get();
+            int count = 0;
+            while ((count < into.length) && isPublished(position + count)) {
+                LogEvent slot = slots[index(position + count)];
+                into[count].set(slot, slot.level, slot.formattedMessage);
+                count++;
+            }
+            if (count == 0) {
+                return 0;
+            }
+            // a producer may have discarded the oldest event(s) while copying, if so the copies are stale
+            if (head.compareAndSet(position, position + count)) {
+                for (int i = 0; i < count; i++) {
+                    free(position + i);
+                }
+                return count;
+            }
+        }
+    }
+
+    /**
+     * Removes the oldest published event, if any, so that its slot may be reused.
+     * @return the length of the discarded event's formatted message or -1 if there was no published event to discard.
+     */
+    int discardOldest() {
+        for (;;) {
+            long position = head.get();
+            if (!isPublished(position)) {
+                return -1;
+            }
+            LogEvent slot = slots[index(position)];
+            int length = LogEvent.messageLength(slot, slot.formattedMessage);
+            if (head.compareAndSet(position, position + 1L)) {
+                free(position);
+                return length;
+            }
+        }
+    }
+
+    /**
+     * @return true if there are no published events waiting to be drained; there may still be claimed slots whose
+     *         events are not yet published (see {@link #size()}).
+     */
+    boolean isEmpty() {
+        return !isPublished(head.get());
+    }
+
+    private boolean isPublished(long position) {
+        return (sequences.get(index(position)) == (position + 1L));
+    }
+
+    private void free(long position) {
+        slots[index(position)].clear();
+        sequences.set(index(position), position + slots.length);
+    }
+
+    private int index(long position) {
+        return (int) (position & mask);
+    }
+
+}
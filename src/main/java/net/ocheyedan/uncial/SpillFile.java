@@ -0,0 +1,287 @@
+package net.ocheyedan.uncial;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * User: blangel
+ * Date: 6/12/12
+ * Time: 6:50 PM
+ *
+ * A bounded, first-in-first-out store of log events within a memory-mapped file, used by {@link AsyncQueue} to hold
+ * the events which do not fit within its in-memory budget (see {@link OverflowPolicy#SPILL}).  The file is used as a
+ * circular buffer of length-prefixed records; the invoking classes and levels are written as indices into tables kept
+ * on the heap (there are few of either) and all strings are written as {@literal UTF-8}.
+ * <p/>
+ * Not thread-safe; {@link AsyncQueue} guards all access.
+ */
+final class SpillFile {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+
+    /**
+     * Marks the remainder of the file as unused; the next record is at the start of the file.
+     */
+    private static final int WRAP = -1;
+
+    private static final int NULL = -1;
+
+    private static final byte HAS_META = 0x1;
+
+    private static final byte HAS_LINE = 0x2;
+
+    /**
+     * Creates a spill file within {@code directory}; the file is deleted when closed (or, failing that, at exit).
+     * @param directory in which to create the file
+     * @param capacity the size of the file, in bytes; at most {@link Integer#MAX_VALUE}
+     * @return the spill file or null if it could not be created
+     */
+    static SpillFile create(String directory, long capacity) {
+        File file = null;
+        RandomAccessFile access = null;
+        try {
+            file = File.createTempFile("uncial-spill", ".bin", new File(directory));
+            file.deleteOnExit();
+            access = new RandomAccessFile(file, "rw");
+            int size = (int) Math.min(capacity, Integer.MAX_VALUE);
+            MappedByteBuffer buffer = access.getChannel().map(FileChannel.MapMode.READ_WRITE, 0L, size);
+            return new SpillFile(file, access, buffer);
+        } catch (IOException ioe) {
+            System.err.println(ioe.getMessage());
+            if (access != null) {
+                try {
+                    access.close();
+                } catch (IOException ioe2) {
+                    System.err.println(ioe2.getMessage());
+                }
+            }
+            if (file != null) {
+                file.delete();
+            }
+            return null;
+        }
+    }
+
+    private final File file;
+
+    private final RandomAccessFile access;
+
+    private final MappedByteBuffer buffer;
+
+    private final int capacity;
+
+    private final List<Class<?>> classes = new ArrayList<Class<?>>();
+
+    private final Map<Class<?>, Integer> classIndices = new HashMap<Class<?>, Integer>();
+
+    private final List<String> levels = new ArrayList<String>();
+
+    private final Map<String, Integer> levelIndices = new HashMap<String, Integer>();
+
+    /**
+     * Each record is encoded here before being copied into the file (its length is not known until encoded).
+     */
+    private ByteBuffer scratch = ByteBuffer.allocate(1024);
+
+    private byte[] chars = new byte[256];
+
+    private int readPosition;
+
+    private int writePosition;
+
+    /**
+     * The bytes between {@link #readPosition} and {@link #writePosition}, including any wasted at the end of the file.
+     */
+    private int used;
+
+    /**
+     * Written only while guarded, read by any thread.
+     */
+    private volatile int count;
+
+    SpillFile(File file, RandomAccessFile access, MappedByteBuffer buffer) {
+        this.file = file;
+        this.access = access;
+        this.buffer = buffer;
+        this.capacity = buffer.capacity();
+    }
+
+    /**
+     * @return the number of events within the file.
+     */
+    int size() {
+        return count;
+    }
+
+    boolean isEmpty() {
+        return (count == 0);
+    }
+
+    /**
+     * @param meta of the event
+     * @param level of the event
+     * @param formattedMessage of the event
+     * @return true if the event was appended; false if there is not enough room
+     */
+    boolean append(Meta meta, String level, String formattedMessage) {
+        encode(meta, level, formattedMessage);
+        int length = scratch.position();
+        int needed = 4 + length;
+        if (count == 0) {
+            readPosition = writePosition = used = 0;
+        }
+        if ((writePosition >= readPosition) && ((capacity - writePosition) < needed)) {
+            // does not fit at the end of the file, the record goes to the start of the file
+            int wasted = capacity - writePosition;
+            if ((used + wasted + needed) > capacity) {
+                return false;
+            }
+            if (wasted >= 4) {
+                buffer.putInt(writePosition, WRAP);
+            }
+            used += wasted;
+            writePosition = 0;
+        } else if ((used + needed) > capacity) {
+            return false;
+        }
+        buffer.putInt(writePosition, length);
+        buffer.position(writePosition + 4);
+        scratch.flip();
+        buffer.put(scratch);
+        writePosition += needed;
+        used += needed;
+        count++;
+        return true;
+    }
+
+    /**
+     * Removes the oldest events from the file, in order, into {@code into}.
+     * @param into the events to set
+     * @return the number of events set
+     */
+    int drainTo(LogEvent[] into) {
+        int drained = 0;
+        while ((drained < into.length) && (count > 0)) {
+            if (((capacity - readPosition) < 4) || (buffer.getInt(readPosition) == WRAP)) {
+                used -= (capacity - readPosition);
+                readPosition = 0;
+            }
+            int length = buffer.getInt(readPosition);
+            buffer.position(readPosition + 4);
+            decode(into[drained++]);
+            readPosition += (4 + length);
+            used -= (4 + length);
+            count--;
+        }
+        return drained;
+    }
+
+    /**
+     * Closes and deletes the file, discarding any events within it.
+     */
+    void close() {
+        try {
+            access.close();
+        } catch (IOException ioe) {
+            System.err.println(ioe.getMessage());
+        }
+        file.delete();
+    }
+
+    private void encode(Meta meta, String level, String formattedMessage) {
+        scratch.clear();
+        if (meta == null) {
+            ensure(1);
+            scratch.put((byte) 0);
+        } else {
+            Integer line = meta.invokingLineNumber();
+            ensure(17);
+            scratch.put((line == null) ? HAS_META : (byte) (HAS_META | HAS_LINE));
+            scratch.putInt(index(meta.invokingClass(), classes, classIndices));
+            scratch.putLong(meta.invokingEpochTime());
+            scratch.putInt((line == null) ? 0 : line);
+            put(meta.invokingMethodName());
+            put(meta.invokingFileName());
+            put(meta.invokingThreadName());
+        }
+        ensure(4);
+        scratch.putInt(index(level, levels, levelIndices));
+        put(LogEvent.message(meta, formattedMessage)); // a deferred message is formatted now, it may be replayed anywhere
+    }
+
+    private void decode(LogEvent into) {
+        byte flags = buffer.get();
+        if ((flags & HAS_META) != 0) {
+            int classIndex = buffer.getInt();
+            long epochTime = buffer.getLong();
+            int line = buffer.getInt();
+            String methodName = get();
+            String fileName = get();
+            String threadName = get();
+            into.setMeta((classIndex == NULL) ? null : classes.get(classIndex), methodName, ((flags & HAS_LINE) != 0),
+                    line, fileName, threadName, epochTime);
+        } else {
+            into.setMeta(null, null, false, 0, null, null, 0L);
+        }
+        int levelIndex = buffer.getInt();
+        into.level = ((levelIndex == NULL) ? null : levels.get(levelIndex));
+        into.formattedMessage = get();
+        into.defer(null, null, null, false);
+    }
+
+    private void put(String value) {
+        if (value == null) {
+            ensure(4);
+            scratch.putInt(NULL);
+            return;
+        }
+        byte[] bytes = value.getBytes(UTF_8);
+        ensure(4 + bytes.length);
+        scratch.putInt(bytes.length);
+        scratch.put(bytes);
+    }
+
+    private String get() {
+        int length = buffer.getInt();
+        if (length == NULL) {
+            return null;
+        }
+        if (chars.length < length) {
+            chars = new byte[Math.max(length, chars.length * 2)];
+        }
+        buffer.get(chars, 0, length);
+        return new String(chars, 0, length, UTF_8);
+    }
+
+    private void ensure(int remaining) {
+        if (scratch.remaining() < remaining) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(scratch.capacity() * 2, scratch.position() + remaining));
+            scratch.flip();
+            larger.put(scratch);
+            scratch = larger;
+        }
+    }
+
+    private static <T> int index(T value, List<T> values, Map<T, Integer> indices) {
+        if (value == null) {
+            return NULL;
+        }
+        Integer index = indices.get(value);
+        if (index == null) {
+            index = values.size();
+            values.add(value);
+            indices.put(value, index);
+        }
+        return index;
+    }
+
+}
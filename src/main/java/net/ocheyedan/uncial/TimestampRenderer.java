@@ -0,0 +1,184 @@
+package net.ocheyedan.uncial;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * User: blangel
+ * Date: 6/14/12
+ * Time: 6:40 AM
+ *
+ * Renders the {@literal %d} field of an appender format (see {@link Formatter.Layout}).  The text rendered for a
+ * second is cached and only the milliseconds are written per log message; patterns which do not render the
+ * milliseconds as three digits (or render them more than once) are instead cached per millisecond.  Either way, the
+ * cost of rendering is independent of the pattern for all but the first log message of each second (or millisecond).
+ * <p/>
+ * Thread-safe; the caches are immutable objects replaced as time moves on.
+ */
+final class TimestampRenderer {
+
+    /**
+     * The pattern of {@literal %d} without a pattern of its own.
+     */
+    static final String DEFAULT_PATTERN = "MM/dd/yyyy HH:mm:ss.SSS";
+
+    /**
+     * Renders the milliseconds since the epoch; {@literal %d{epoch}}.
+     */
+    static final String EPOCH = "epoch";
+
+    /**
+     * Renders {@literal ISO-8601} with milliseconds and the offset of the local time zone; {@literal %d{iso}}.
+     */
+    static final String ISO = "iso";
+
+    private static final String ISO_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSSXXX";
+
+    /**
+     * @param pattern of the {@link DateTimeFormatter} with which to render or {@link #EPOCH} or {@link #ISO}; null for
+     *                {@link #DEFAULT_PATTERN}
+     * @return the renderer or, if {@code pattern} is invalid, one for the {@link #DEFAULT_PATTERN}
+     */
+    static TimestampRenderer create(String pattern) {
+        if (pattern == null) {
+            return new TimestampRenderer(DEFAULT_PATTERN, DateTimeFormatter.ofPattern(DEFAULT_PATTERN));
+        } else if (EPOCH.equals(pattern)) {
+            return new TimestampRenderer(pattern, null);
+        }
+        try {
+            return new TimestampRenderer(pattern, DateTimeFormatter.ofPattern(ISO.equals(pattern) ? ISO_PATTERN : pattern));
+        } catch (IllegalArgumentException iae) {
+            System.err.println(iae.getMessage());
+            return create(null);
+        }
+    }
+
+    /**
+     * The rendering of a second; {@link #prefix} then the milliseconds then {@link #suffix}.
+     */
+    private static final class Second {
+
+        private final long second;
+
+        /**
+         * The offset of the three-digit milliseconds within the rendering of {@link #second}, or -1 if the milliseconds
+         * are not rendered, or -2 if they cannot be patched (see {@link TimestampRenderer#lastMillisecond}).
+         * Found per second as variable width fields (e.g., the name of the month) may precede the milliseconds.
+         */
+        private final int millisOffset;
+
+        private final String prefix;
+
+        private final String suffix;
+
+        private Second(long second, int millisOffset, String prefix, String suffix) {
+            this.second = second;
+            this.millisOffset = millisOffset;
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+    }
+
+    /**
+     * The rendering of a millisecond, for patterns whose milliseconds cannot be patched.
+     */
+    private static final class Millisecond {
+
+        private final long epochMillis;
+
+        private final String rendered;
+
+        private Millisecond(long epochMillis, String rendered) {
+            this.epochMillis = epochMillis;
+            this.rendered = rendered;
+        }
+    }
+
+    private final String pattern;
+
+    /**
+     * Null for {@link #EPOCH}.
+     */
+    private final DateTimeFormatter formatter;
+
+    private final ZoneId zone;
+
+    private volatile Second lastSecond;
+
+    private volatile Millisecond lastMillisecond;
+
+    private TimestampRenderer(String pattern, DateTimeFormatter formatter) {
+        this.pattern = pattern;
+        this.formatter = formatter;
+        this.zone = ZoneId.systemDefault();
+    }
+
+    /**
+     * @return the pattern given to {@link #create(String)}
+     */
+    String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * @param buffer to which to append the rendering of {@code epochMillis}
+     * @param epochMillis to render
+     */
+    void appendTo(StringBuilder buffer, long epochMillis) {
+        if (formatter == null) {
+            buffer.append(epochMillis);
+            return;
+        }
+        long second = Math.floorDiv(epochMillis, 1000L);
+        Second cached = this.lastSecond;
+        if ((cached == null) || (cached.second != second)) {
+            cached = second(second);
+            this.lastSecond = cached;
+        }
+        if (cached.millisOffset == -2) {
+            Millisecond millisecond = this.lastMillisecond;
+            if ((millisecond == null) || (millisecond.epochMillis != epochMillis)) {
+                millisecond = new Millisecond(epochMillis, render(epochMillis));
+                this.lastMillisecond = millisecond;
+            }
+            buffer.append(millisecond.rendered);
+            return;
+        }
+        buffer.append(cached.prefix);
+        if (cached.millisOffset != -1) {
+            int millis = (int) (epochMillis - (second * 1000L));
+            buffer.append((char) ('0' + (millis / 100)));
+            buffer.append((char) ('0' + ((millis / 10) % 10)));
+            buffer.append((char) ('0' + (millis % 10)));
+            buffer.append(cached.suffix);
+        }
+    }
+
+    /**
+     * Renders {@code second} and finds where its milliseconds are rendered by also rendering it with other milliseconds.
+     * @param second since the epoch to render
+     * @return the rendering
+     */
+    private Second second(long second) {
+        String zero = render(second * 1000L);
+        String other = render((second * 1000L) + 123L);
+        if (zero.equals(other)) {
+            return new Second(second, -1, zero, null);
+        }
+        if (zero.length() == other.length()) {
+            for (int offset = zero.indexOf("000"); offset != -1; offset = zero.indexOf("000", offset + 1)) {
+                if (other.startsWith("123", offset) && zero.regionMatches(0, other, 0, offset)
+                        && zero.regionMatches(offset + 3, other, offset + 3, zero.length() - offset - 3)) {
+                    return new Second(second, offset, zero.substring(0, offset), zero.substring(offset + 3));
+                }
+            }
+        }
+        return new Second(second, -2, null, null);
+    }
+
+    private String render(long epochMillis) {
+        return formatter.format(Instant.ofEpochMilli(epochMillis).atZone(zone));
+    }
+
+}
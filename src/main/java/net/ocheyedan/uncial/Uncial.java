@@ -4,6 +4,7 @@ import org.slf4j.Marker;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.function.Supplier;
 
 /**
  * User: blangel
@@ -15,6 +16,20 @@ import java.io.StringWriter;
  */
 public final class Uncial implements Logger {
 
+    /**
+     * Each logging thread's reusable {@link Meta} (see {@link LogEvent#inUse}).
+     */
+    private static final ThreadLocal<LogEvent> events = new ThreadLocal<LogEvent>() {
+        @Override protected LogEvent initialValue() {
+            return new LogEvent();
+        }
+    };
+
+    /**
+     * The parameters of messages logged without any.
+     */
+    private static final Object[] NO_PARAMS = new Object[0];
+
     private final Class<?> loggingFor;
 
     private final Formatter formatter;
@@ -83,6 +98,566 @@ public final class Uncial implements Logger {
         _log(loggingFor, formatter, distributor, meta, now, Logger.error, message, params);
     }
 
+    @Override public void trace(String message, Object param1, Object param2, Object param3) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        message, param1, param2, param3);
+        }
+    }
+
+    @Override public void trace(String message, Object param1, Object param2, Object param3, Object param4) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        message, param1, param2, param3, param4);
+        }
+    }
+
+    @Override public void trace(String message, int param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(String message, long param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(String message, double param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(String message, boolean param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(String message, char param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(String message, float param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(String message, short param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(String message, byte param) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, Object param1, Object param2, Object param3) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        message, param1, param2, param3);
+        }
+    }
+
+    @Override public void debug(String message, Object param1, Object param2, Object param3, Object param4) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        message, param1, param2, param3, param4);
+        }
+    }
+
+    @Override public void debug(String message, int param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, long param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, double param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, boolean param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, char param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, float param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, short param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void debug(String message, byte param) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, Object param1, Object param2, Object param3) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        message, param1, param2, param3);
+        }
+    }
+
+    @Override public void info(String message, Object param1, Object param2, Object param3, Object param4) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        message, param1, param2, param3, param4);
+        }
+    }
+
+    @Override public void info(String message, int param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, long param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, double param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, boolean param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, char param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, float param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, short param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void info(String message, byte param) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, Object param1, Object param2, Object param3) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        message, param1, param2, param3);
+        }
+    }
+
+    @Override public void warn(String message, Object param1, Object param2, Object param3, Object param4) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        message, param1, param2, param3, param4);
+        }
+    }
+
+    @Override public void warn(String message, int param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, long param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, double param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, boolean param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, char param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, float param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, short param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void warn(String message, byte param) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, Object param1, Object param2, Object param3) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        message, param1, param2, param3);
+        }
+    }
+
+    @Override public void error(String message, Object param1, Object param2, Object param3, Object param4) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        message, param1, param2, param3, param4);
+        }
+    }
+
+    @Override public void error(String message, int param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, long param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, double param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, boolean param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, char param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, float param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, short param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void error(String message, byte param) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error,
+                          format(formatter, message, param));
+        }
+    }
+
+    @Override public void trace(Supplier<String> message) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.trace, message.get());
+        }
+    }
+
+    @Override public void trace(String message, Supplier<?> param1) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        message, get(param1));
+        }
+    }
+
+    @Override public void trace(String message, Supplier<?> param1, Supplier<?> param2) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        message, get(param1), get(param2));
+        }
+    }
+
+    @Override public void trace(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        message, get(param1), get(param2), get(param3));
+        }
+    }
+
+    @Override public void trace(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                                Supplier<?> param4) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        message, get(param1), get(param2), get(param3), get(param4));
+        }
+    }
+
+    @Override public void trace(String message, Supplier<?> ... params) {
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        message, get(params));
+        }
+    }
+
+    @Override public void debug(Supplier<String> message) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.debug, message.get());
+        }
+    }
+
+    @Override public void debug(String message, Supplier<?> param1) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        message, get(param1));
+        }
+    }
+
+    @Override public void debug(String message, Supplier<?> param1, Supplier<?> param2) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        message, get(param1), get(param2));
+        }
+    }
+
+    @Override public void debug(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        message, get(param1), get(param2), get(param3));
+        }
+    }
+
+    @Override public void debug(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                                Supplier<?> param4) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        message, get(param1), get(param2), get(param3), get(param4));
+        }
+    }
+
+    @Override public void debug(String message, Supplier<?> ... params) {
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        message, get(params));
+        }
+    }
+
+    @Override public void info(Supplier<String> message) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.info, message.get());
+        }
+    }
+
+    @Override public void info(String message, Supplier<?> param1) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        message, get(param1));
+        }
+    }
+
+    @Override public void info(String message, Supplier<?> param1, Supplier<?> param2) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        message, get(param1), get(param2));
+        }
+    }
+
+    @Override public void info(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        message, get(param1), get(param2), get(param3));
+        }
+    }
+
+    @Override public void info(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                               Supplier<?> param4) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        message, get(param1), get(param2), get(param3), get(param4));
+        }
+    }
+
+    @Override public void info(String message, Supplier<?> ... params) {
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        message, get(params));
+        }
+    }
+
+    @Override public void warn(Supplier<String> message) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.warn, message.get());
+        }
+    }
+
+    @Override public void warn(String message, Supplier<?> param1) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        message, get(param1));
+        }
+    }
+
+    @Override public void warn(String message, Supplier<?> param1, Supplier<?> param2) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        message, get(param1), get(param2));
+        }
+    }
+
+    @Override public void warn(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        message, get(param1), get(param2), get(param3));
+        }
+    }
+
+    @Override public void warn(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                               Supplier<?> param4) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        message, get(param1), get(param2), get(param3), get(param4));
+        }
+    }
+
+    @Override public void warn(String message, Supplier<?> ... params) {
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        message, get(params));
+        }
+    }
+
+    @Override public void error(Supplier<String> message) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logFormatted(loggingFor, distributor, System.currentTimeMillis(), Logger.error, message.get());
+        }
+    }
+
+    @Override public void error(String message, Supplier<?> param1) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        message, get(param1));
+        }
+    }
+
+    @Override public void error(String message, Supplier<?> param1, Supplier<?> param2) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        message, get(param1), get(param2));
+        }
+    }
+
+    @Override public void error(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        message, get(param1), get(param2), get(param3));
+        }
+    }
+
+    @Override public void error(String message, Supplier<?> param1, Supplier<?> param2, Supplier<?> param3,
+                                Supplier<?> param4) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        message, get(param1), get(param2), get(param3), get(param4));
+        }
+    }
+
+    @Override public void error(String message, Supplier<?> ... params) {
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        message, get(params));
+        }
+    }
+
     private void exception(Meta meta, Throwable t, long when, String level) {
         StringWriter stringWriter = new StringWriter();
         PrintWriter writer = new PrintWriter(stringWriter);
@@ -96,14 +671,238 @@ public final class Uncial implements Logger {
         if (!Loggers.isEnabled(level, loggingFor)) {
             return;
         }
-        if (meta == null) {
-            meta = Loggers.meta(loggingFor, null, null, null, Thread.currentThread().getName(), when);
+        _logEnabled(loggingFor, formatter, distributor, meta, when, level, message, params);
+    }
+
+    /**
+     * As {@link #_log(Class, Formatter, Distributor, Meta, long, String, String, Object...)} without parameters; rather
+     * than an empty array per call.
+     */
+    private static void _log(Class<?> loggingFor, net.ocheyedan.uncial.Formatter formatter, Distributor distributor,
+                             Meta meta, long when, String level, String message) {
+        _log(loggingFor, formatter, distributor, meta, when, level, message, NO_PARAMS);
+    }
+
+    /**
+     * As {@link #_log(Class, Formatter, Distributor, Meta, long, String, String, Object...)} for a {@code level}
+     * already known to be enabled.
+     */
+    private static void _logEnabled(Class<?> loggingFor, net.ocheyedan.uncial.Formatter formatter,
+                                    Distributor distributor, Meta meta, long when, String level, String message,
+                                    Object ... params) {
+        _logEnabled(((meta == null) ? acquire() : null), loggingFor, formatter, distributor, meta, when, level, message,
+                    params);
+    }
+
+    /**
+     * The fixed-arity variants of
+     * {@link #_logEnabled(Class, Formatter, Distributor, Meta, long, String, String, Object...)} place their parameters
+     * in an array of this thread's event (see {@link LogEvent#params(int)}) rather than a new array per call.
+     */
+    private static void _logEnabled(Class<?> loggingFor, net.ocheyedan.uncial.Formatter formatter,
+                                    Distributor distributor, Meta meta, long when, String level, String message,
+                                    Object param1) {
+        LogEvent event = ((meta == null) ? acquire() : null);
+        Object[] params = params(event, 1);
+        params[0] = param1;
+        _logEnabled(event, loggingFor, formatter, distributor, meta, when, level, message, params);
+    }
+
+    private static void _logEnabled(Class<?> loggingFor, net.ocheyedan.uncial.Formatter formatter,
+                                    Distributor distributor, Meta meta, long when, String level, String message,
+                                    Object param1, Object param2) {
+        LogEvent event = ((meta == null) ? acquire() : null);
+        Object[] params = params(event, 2);
+        params[0] = param1;
+        params[1] = param2;
+        _logEnabled(event, loggingFor, formatter, distributor, meta, when, level, message, params);
+    }
+
+    private static void _logEnabled(Class<?> loggingFor, net.ocheyedan.uncial.Formatter formatter,
+                                    Distributor distributor, Meta meta, long when, String level, String message,
+                                    Object param1, Object param2, Object param3) {
+        LogEvent event = ((meta == null) ? acquire() : null);
+        Object[] params = params(event, 3);
+        params[0] = param1;
+        params[1] = param2;
+        params[2] = param3;
+        _logEnabled(event, loggingFor, formatter, distributor, meta, when, level, message, params);
+    }
+
+    private static void _logEnabled(Class<?> loggingFor, net.ocheyedan.uncial.Formatter formatter,
+                                    Distributor distributor, Meta meta, long when, String level, String message,
+                                    Object param1, Object param2, Object param3, Object param4) {
+        LogEvent event = ((meta == null) ? acquire() : null);
+        Object[] params = params(event, 4);
+        params[0] = param1;
+        params[1] = param2;
+        params[2] = param3;
+        params[3] = param4;
+        _logEnabled(event, loggingFor, formatter, distributor, meta, when, level, message, params);
+    }
+
+    /**
+     * @return an array of {@code length} from {@code event} or a new array if {@code event} is null
+     */
+    private static Object[] params(LogEvent event, int length) {
+        return ((event == null) ? new Object[length] : event.params(length));
+    }
+
+    /**
+     * @param event this thread's event from {@link #acquire()}, released once logged; null if {@code meta} is given or
+     *              this is a nested log call
+     */
+    private static void _logEnabled(LogEvent event, Class<?> loggingFor, net.ocheyedan.uncial.Formatter formatter,
+                                    Distributor distributor, Meta meta, long when, String level, String message,
+                                    Object[] params) {
+        try {
+            if (meta == null) {
+                meta = meta(event, loggingFor, when);
+            }
+            boolean portable = ((event != null) && UncialConfig.get().isDeferredFormatting() && immutable(params));
+            if ((event != null) && (message != null) && (portable || distributor.synchronous())) {
+                // the distributor copies a portable deferred message (and its parameters) along with the meta
+                // information, otherwise it hands the event to the appenders before returning; either way it is
+                // formatted when handed to the appenders, straight into their output if possible
+                event.defer(formatter, message, params, portable);
+                distributor.distribute(meta, level, null);
+                return;
+            }
+            // this must be logged, so create formatted message now (as {@code params} may be mutable and modified by
+            // user after method return).
+            String formattedMessage = formatter.format(message, params);
+            // place in log-queue; the distributor copies rather than retains the meta information
+            distributor.distribute(meta, level, formattedMessage);
+        } finally {
+            release(event);
+        }
+    }
+
+    /**
+     * Logs {@code formattedMessage} at {@code level}, already known to be enabled.
+     */
+    private static void _logFormatted(Class<?> loggingFor, Distributor distributor, long when, String level,
+                                      String formattedMessage) {
+        LogEvent event = acquire();
+        try {
+            distributor.distribute(meta(event, loggingFor, when), level, formattedMessage);
+        } finally {
+            release(event);
+        }
+    }
+
+    /**
+     * @return this thread's reusable event, marked as in use, or null if this is a nested log call and it is already
+     *         in use
+     */
+    private static LogEvent acquire() {
+        LogEvent event = events.get();
+        if (event.inUse) {
+            return null;
+        }
+        event.inUse = true;
+        return event;
+    }
+
+    /**
+     * @param event from {@link #acquire()}
+     */
+    private static void release(LogEvent event) {
+        if (event != null) {
+            event.clear();
+            event.inUse = false;
+        }
+    }
+
+    /**
+     * @return {@code event} populated in place as the meta information or, if null, new meta information
+     */
+    private static Meta meta(LogEvent event, Class<?> loggingFor, long when) {
+        if (event == null) {
+            return Loggers.meta(loggingFor, null, null, null, Thread.currentThread().getName(), when);
+        }
+        return Loggers.meta(event, loggingFor, when);
+    }
+
+    /**
+     * @return the value supplied by {@code param} or null if {@code param} is null
+     */
+    private static Object get(Supplier<?> param) {
+        return ((param == null) ? null : param.get());
+    }
+
+    /**
+     * @return the values supplied by {@code params} or null if {@code params} is null
+     */
+    private static Object[] get(Supplier<?>[] params) {
+        if (params == null) {
+            return null;
+        }
+        Object[] values = new Object[params.length];
+        for (int i = 0; i < params.length; i++) {
+            values[i] = get(params[i]);
+        }
+        return values;
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, int param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, long param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, double param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, boolean param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, char param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, float param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, short param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    private static String format(net.ocheyedan.uncial.Formatter formatter, String message, byte param) {
+        return ((formatter instanceof Formatter.Primitives) ? ((Formatter.Primitives) formatter).format(message, param)
+                : formatter.format(message, param));
+    }
+
+    /**
+     * @param params of a log call
+     * @return true if every parameter is null or of a type whose instances never change (see {@link Immutable})
+     */
+    private static boolean immutable(Object[] params) {
+        if (params == null) {
+            return true;
+        }
+        for (Object param : params) {
+            if ((param == null) || (param instanceof String) || (param instanceof Integer) || (param instanceof Long)
+                    || (param instanceof Boolean) || (param instanceof Character) || (param instanceof Double)
+                    || (param instanceof Float) || (param instanceof Short) || (param instanceof Byte)
+                    || (param instanceof Enum) || (param instanceof Immutable)) {
+                continue;
+            }
+            return false;
         }
-        // this must be logged, so create formatted message now (as {@code params} may be mutable and modified by user
-        // after method return).
-        String formattedMessage = formatter.format(message, params);
-        // create serializable and place in log-queue
-        distributor.distribute(meta, level, formattedMessage);
+        return true;
     }
 
     // org.slf4j.Logger implementations
@@ -121,11 +920,17 @@ public final class Uncial implements Logger {
     }
 
     @Override public void trace(String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace, format, arg);
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        format, arg);
+        }
     }
 
     @Override public void trace(String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace, format, arg1, arg2);
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void trace(String msg, Throwable t) {
@@ -149,11 +954,17 @@ public final class Uncial implements Logger {
     }
 
     @Override public void trace(Marker marker, String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace, format, arg);
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        format, arg);
+        }
     }
 
     @Override public void trace(Marker marker, String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace, format, arg1, arg2);
+        if (Loggers.isTraceEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.trace,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void trace(Marker marker, String format, Object[] argArray) {
@@ -181,11 +992,17 @@ public final class Uncial implements Logger {
     }
 
     @Override public void debug(String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug, format, arg);
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        format, arg);
+        }
     }
 
     @Override public void debug(String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug, format, arg1, arg2);
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void debug(String msg, Throwable t) {
@@ -209,11 +1026,17 @@ public final class Uncial implements Logger {
     }
 
     @Override public void debug(Marker marker, String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug, format, arg);
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        format, arg);
+        }
     }
 
     @Override public void debug(Marker marker, String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug, format, arg1, arg2);
+        if (Loggers.isDebugEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.debug,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void debug(Marker marker, String format, Object[] argArray) {
@@ -241,11 +1064,16 @@ public final class Uncial implements Logger {
     }
 
     @Override public void info(String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info, format, arg);
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info, format, arg);
+        }
     }
 
     @Override public void info(String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info, format, arg1, arg2);
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void info(String msg, Throwable t) {
@@ -269,11 +1097,16 @@ public final class Uncial implements Logger {
     }
 
     @Override public void info(Marker marker, String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info, format, arg);
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info, format, arg);
+        }
     }
 
     @Override public void info(Marker marker, String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info, format, arg1, arg2);
+        if (Loggers.isInfoEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.info,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void info(Marker marker, String format, Object[] argArray) {
@@ -301,11 +1134,16 @@ public final class Uncial implements Logger {
     }
 
     @Override public void warn(String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn, format, arg);
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn, format, arg);
+        }
     }
 
     @Override public void warn(String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn, format, arg1, arg2);
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void warn(String msg, Throwable t) {
@@ -329,11 +1167,16 @@ public final class Uncial implements Logger {
     }
 
     @Override public void warn(Marker marker, String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn, format, arg);
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn, format, arg);
+        }
     }
 
     @Override public void warn(Marker marker, String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn, format, arg1, arg2);
+        if (Loggers.isWarnEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.warn,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void warn(Marker marker, String format, Object[] argArray) {
@@ -361,11 +1204,17 @@ public final class Uncial implements Logger {
     }
 
     @Override public void error(String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error, format, arg);
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        format, arg);
+        }
     }
 
     @Override public void error(String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error, format, arg1, arg2);
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void error(String msg, Throwable t) {
@@ -389,11 +1238,17 @@ public final class Uncial implements Logger {
     }
 
     @Override public void error(Marker marker, String format, Object arg) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error, format, arg);
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        format, arg);
+        }
     }
 
     @Override public void error(Marker marker, String format, Object arg1, Object arg2) {
-        _log(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error, format, arg1, arg2);
+        if (Loggers.isErrorEnabled(loggingFor)) {
+            _logEnabled(loggingFor, formatter, distributor, null, System.currentTimeMillis(), Logger.error,
+                        format, arg1, arg2);
+        }
     }
 
     @Override public void error(Marker marker, String format, Object[] argArray) {
@@ -1,12 +1,23 @@
 package net.ocheyedan.uncial;
 
 import net.ocheyedan.uncial.appender.Appender;
+import net.ocheyedan.uncial.appender.ByteAppender;
+import net.ocheyedan.uncial.appender.SizeUnit;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
@@ -36,16 +47,241 @@ public final class UncialConfig implements UncialConfigMBean {
          */
         final String format;
 
-        private AppenderConfig(Appender appender, String format) {
+        /**
+         * {@link #format} compiled
+         */
+        final Formatter.Layout layout;
+
+        /**
+         * When to flush {@link #appender}
+         */
+        final FlushPolicy flushPolicy;
+
+        /**
+         * The flush state of {@link #appender}; shared by all configurations of the same appender instance.
+         */
+        private final Flusher flusher;
+
+        /**
+         * The charset of {@link #appender}; null if it is not a {@link ByteAppender} (see {@link #handlesBytes}).
+         */
+        final Charset charset;
+
+        /**
+         * The encoder of each thread handing messages to {@link #appender}; null if it is not a {@link ByteAppender}
+         * (see {@link #handlesBytes}).
+         */
+        private final ThreadLocal<Encoder> encoders;
+
+        private AppenderConfig(Appender appender, Formatter.Layout layout, FlushPolicy flushPolicy, Flusher flusher) {
             this.appender = appender;
-            this.format = format;
+            this.format = layout.getFormat();
+            this.layout = layout;
+            this.flushPolicy = flushPolicy;
+            this.flusher = flusher;
+            if (handlesBytes(appender)) {
+                final Charset charset = ((ByteAppender) appender).getCharset();
+                this.charset = charset;
+                this.encoders = new ThreadLocal<Encoder>() {
+                    @Override protected Encoder initialValue() {
+                        return new Encoder(charset);
+                    }
+                };
+            } else {
+                this.charset = null;
+                this.encoders = null;
+            }
+        }
+
+        /**
+         * @param appender to check
+         * @return true if {@code appender} is handed its messages encoded; i.e., it is a {@link ByteAppender} and its
+         *         {@link Appender#handle(String)} is not overridden beneath the class implementing
+         *         {@link ByteAppender#handle(ByteBuffer)} (as by a subclass of a library appender which decorates or
+         *         filters its output, and which would otherwise be bypassed)
+         */
+        static boolean handlesBytes(Appender appender) {
+            if (!(appender instanceof ByteAppender)) {
+                return false;
+            }
+            try {
+                Class<?> bytes = appender.getClass().getMethod("handle", ByteBuffer.class).getDeclaringClass();
+                Class<?> string = appender.getClass().getMethod("handle", String.class).getDeclaringClass();
+                return string.isAssignableFrom(bytes);
+            } catch (NoSuchMethodException nsme) {
+                return true; // not possible, both are public methods of the interfaces
+            }
+        }
+
+        /**
+         * Hands {@code message} to the appender, flushing it if required by the {@link #flushPolicy}.  A
+         * {@link ByteAppender} is handed {@code message} encoded into a reused buffer, any other appender a string.
+         * The appender is handed one message at a time, under its {@link Flusher}'s lock.
+         * @param message to hand to the appender
+         */
+        void handle(CharSequence message) {
+            if (encoders == null) {
+                String string = message.toString();
+                flusher.lock();
+                try {
+                    appender.handle(string);
+                    flusher.written(flushPolicy, string.length());
+                } finally {
+                    flusher.unlock();
+                }
+                return;
+            }
+            Encoder encoder = encoders.get();
+            ByteBuffer encoded = encoder.encode(message);
+            try {
+                handle(encoded);
+            } finally {
+                encoder.release(encoded);
+            }
+        }
+
+        /**
+         * Hands {@code encoded} (in {@link #charset}) to the appender, which must be a {@link ByteAppender}, flushing
+         * it if required by the {@link #flushPolicy}.  The position and limit of {@code encoded} are restored once
+         * handled so that it may be handed to other appenders.
+         * @param encoded message to hand to the appender
+         */
+        void handle(ByteBuffer encoded) {
+            int position = encoded.position();
+            int limit = encoded.limit();
+            flusher.lock();
+            try {
+                ((ByteAppender) appender).handle(encoded);
+                flusher.written(flushPolicy, limit - position);
+            } finally {
+                flusher.unlock();
+                encoded.limit(limit);
+                encoded.position(position);
+            }
+        }
+
+        /**
+         * Invoked by the appender thread when it has fallen idle.
+         */
+        void idle() {
+            flusher.idle(flushPolicy);
+        }
+
+        /**
+         * Flushes the appender if its unflushed output is older than allowed by the {@link #flushPolicy} and it is not
+         * being written to.
+         */
+        void flushIfDue() {
+            flusher.flushIfDue(flushPolicy);
         }
 
         String format(final Meta meta, final String level, final String formattedMessage) {
-            if ((meta == null) || (level == null) || (formattedMessage == null)) {
+            String message = LogEvent.message(meta, formattedMessage);
+            if ((meta == null) || (level == null) || (message == null)) {
                 throw new NullPointerException("The meta/level/message all cannot be null.");
             }
-            return formatter.format(meta, level, formattedMessage, format);
+            return formatter.format(meta, level, message, layout);
+        }
+
+        /**
+         * As {@link #format(Meta, String, String)} but appends to {@code buffer} rather than creating a string; a
+         * deferred message is rendered straight into {@code buffer}.
+         * @param buffer to which to append the formatted message
+         * @param meta associated with the log message
+         * @param level of the log message
+         * @param formattedMessage the log message
+         */
+        void render(StringBuilder buffer, final Meta meta, final String level, final String formattedMessage) {
+            if ((meta == null) || (level == null) || !LogEvent.hasMessage(meta, formattedMessage)) {
+                throw new NullPointerException("The meta/level/message all cannot be null.");
+            }
+            formatter.render(buffer, meta, level, formattedMessage, layout);
+        }
+    }
+
+    /**
+     * The {@link AppenderConfig} objects sharing a compiled {@link Formatter.Layout}; each log message is rendered once
+     * for the group and the output handed to each of its appenders.
+     */
+    static final class AppenderGroup {
+
+        final Formatter.Layout layout;
+
+        final AppenderConfig[] appenderConfigs;
+
+        /**
+         * The charset into which output is encoded once for the group's {@link ByteAppender} objects of that charset;
+         * null if there are none.
+         */
+        private final Charset charset;
+
+        /**
+         * True if the output must be a {@link String} for any of the group's appenders; i.e., there are appenders
+         * which are not {@link ByteAppender} objects or whose charset differs from {@link #charset}.
+         */
+        private final boolean needsString;
+
+        private AppenderGroup(Formatter.Layout layout, AppenderConfig[] appenderConfigs) {
+            this.layout = layout;
+            this.appenderConfigs = appenderConfigs;
+            Charset charset = null;
+            boolean needsString = false;
+            for (AppenderConfig appenderConfig : appenderConfigs) {
+                if (appenderConfig.charset == null) {
+                    needsString = true;
+                } else if (charset == null) {
+                    charset = appenderConfig.charset;
+                } else if (!charset.equals(appenderConfig.charset)) {
+                    needsString = true;
+                }
+            }
+            this.charset = charset;
+            this.needsString = needsString;
+        }
+
+        /**
+         * @see AppenderConfig#render(StringBuilder, Meta, String, String)
+         */
+        void render(StringBuilder buffer, Meta meta, String level, String formattedMessage) {
+            appenderConfigs[0].render(buffer, meta, level, formattedMessage);
+        }
+
+        /**
+         * Hands {@code message} to each of the group's appenders, creating its {@link String} and its encoding (in
+         * {@link #charset}) at most once for all of them.
+         * @param message rendered according to {@link #layout}
+         */
+        void handle(CharSequence message) {
+            if (appenderConfigs.length == 1) {
+                appenderConfigs[0].handle(message);
+                return;
+            }
+            // created up front, an appender which itself logs may reuse the buffer behind message once handed it
+            CharSequence shared = (needsString ? message.toString() : message);
+            AppenderConfig encoding = null;
+            ByteBuffer encoded = null;
+            if (charset != null) {
+                for (AppenderConfig appenderConfig : appenderConfigs) {
+                    if (charset.equals(appenderConfig.charset)) {
+                        encoding = appenderConfig;
+                        break;
+                    }
+                }
+                encoded = encoding.encoders.get().encode(shared);
+            }
+            try {
+                for (AppenderConfig appenderConfig : appenderConfigs) {
+                    if ((encoded != null) && charset.equals(appenderConfig.charset)) {
+                        appenderConfig.handle(encoded);
+                    } else {
+                        appenderConfig.handle(shared);
+                    }
+                }
+            } finally {
+                if (encoded != null) {
+                    encoding.encoders.get().release(encoded);
+                }
+            }
         }
     }
 
@@ -105,6 +341,21 @@ public final class UncialConfig implements UncialConfigMBean {
      */
     public static final String DEFAULT_APPENDER_FORMAT = "%d %C [%l] - %m%n";
 
+    /**
+     * The default maximum number of approximate bytes of formatted messages which may be queued for the appender thread.
+     */
+    public static final long DEFAULT_MAX_QUEUED_BYTES = SizeUnit.MEGABYTES.toBytes(16L);
+
+    /**
+     * The default maximum number of milliseconds for which to drain queued log events at {@literal JVM} shutdown.
+     */
+    public static final long DEFAULT_SHUTDOWN_TIMEOUT = 5000L;
+
+    /**
+     * The default maximum size of the file to which events are spilled by {@link OverflowPolicy#SPILL}.
+     */
+    public static final long DEFAULT_MAX_SPILL_BYTES = SizeUnit.MEGABYTES.toBytes(256L);
+
     /**
      * The default level to use for the {@link #defaultLevel} initial value.
      */
@@ -180,6 +431,12 @@ public final class UncialConfig implements UncialConfigMBean {
 
     private final ConcurrentMap<String, AppenderConfig> appenderConfigs;
 
+    /**
+     * {@link #appenderConfigs} grouped by compiled layout; regrouped whenever the appender configuration changes.
+     */
+    private final AtomicReference<AppenderGroup[]> appenderGroups =
+            new AtomicReference<AppenderGroup[]>(new AppenderGroup[0]);
+
     private final AtomicReference<String> defaultLevel;
 
     private final ConcurrentMap<String, LoggerConfig> loggerConfigs;
@@ -194,12 +451,56 @@ public final class UncialConfig implements UncialConfigMBean {
 
     private final AtomicBoolean needsFile = new AtomicBoolean(false);
 
+    private final AtomicReference<OverflowPolicy> overflowPolicy;
+
+    private final AtomicReference<String> overflowLevel;
+
+    private final AtomicInteger maxQueuedEvents;
+
+    private final AtomicLong maxQueuedBytes;
+
+    private final AtomicReference<String> spillDirectory;
+
+    private final AtomicLong maxSpillBytes;
+
+    private final AtomicReference<String> priorityLevel = new AtomicReference<String>();
+
+    private final AtomicBoolean prioritySynchronous = new AtomicBoolean(false);
+
+    private final AtomicBoolean deferredFormatting = new AtomicBoolean(Boolean.getBoolean("uncial.deferredFormatting"));
+
+    private final AtomicReference<WaitStrategy> waitStrategy;
+
+    private final AtomicLong shutdownTimeout;
+
+    private final AtomicLong droppedEvents = new AtomicLong(0L);
+
+    private final AtomicLong droppedBytes = new AtomicLong(0L);
+
+    private final ConcurrentMap<Appender, AsyncQueue> appenderQueues = new ConcurrentHashMap<Appender, AsyncQueue>(2, 1.0f);
+
     private UncialConfig() {
         this.appenderConfigs = new ConcurrentHashMap<String, AppenderConfig>(2, 1.0f);
         this.defaultLevel = new AtomicReference<String>(DEFAULT_LEVEL);
         this.loggerConfigs = new ConcurrentHashMap<String, LoggerConfig>(16, 1.0f);
         this.levelComparator = new AtomicReference<Comparator<String>>(DEFAULT_LEVEL_COMPARATOR);
         this.loggerComparator = new AtomicReference<Comparator<String>>(DEFAULT_LOGGER_COMPARATOR);
+        this.overflowPolicy = new AtomicReference<OverflowPolicy>(OverflowPolicy.BLOCK);
+        this.overflowLevel = new AtomicReference<String>(Logger.warn);
+        this.maxQueuedEvents = new AtomicInteger(Integer.MAX_VALUE);
+        this.maxQueuedBytes = new AtomicLong(DEFAULT_MAX_QUEUED_BYTES);
+        this.spillDirectory = new AtomicReference<String>(System.getProperty("java.io.tmpdir"));
+        this.maxSpillBytes = new AtomicLong(DEFAULT_MAX_SPILL_BYTES);
+        this.waitStrategy = new AtomicReference<WaitStrategy>(WaitStrategy.BLOCKING);
+        this.shutdownTimeout = new AtomicLong(Long.getLong("uncial.shutdownTimeout", DEFAULT_SHUTDOWN_TIMEOUT));
+        String waitStrategyName = System.getProperty("uncial.waitStrategy");
+        if (waitStrategyName != null) {
+            try {
+                this.waitStrategy.set(WaitStrategy.valueOf(waitStrategyName.toUpperCase()));
+            } catch (IllegalArgumentException iae) {
+                System.err.println(iae.getMessage());
+            }
+        }
     }
 
     /**
@@ -261,11 +562,14 @@ public final class UncialConfig implements UncialConfigMBean {
      *     %M - method name
      *     %L - line number
      *     %l - log level
-     *     %d - the date/time at which the logging event occurred
+     *     %d - the date/time at which the logging event occurred; as MM/dd/yyyy HH:mm:ss.SSS unless followed by
+     *          {pattern} where pattern is a java.time.format.DateTimeFormatter pattern, {epoch} for milliseconds
+     *          since the epoch or {iso} for ISO-8601 (e.g. %d{HH:mm:ss.SSS})
      *     %m - the actual message
      *     %n - new line
      * </pre>
-     * Anything else will be printed as is for every log message.
+     * Anything else will be printed as is for every log message.  Appenders of the same format share its compiled form
+     * and each log message is formatted once for all of them.
      *
      * @param appender to receive log messages.
      * @param format for which to print log messages.
@@ -277,7 +581,22 @@ public final class UncialConfig implements UncialConfigMBean {
         }
         String appenderFormat = (format == null ? DEFAULT_APPENDER_FORMAT : format);
         String appenderKey = appender.getClass().getName(); // no guarantee Appender#getName() will be unique
-        AppenderConfig old = this.appenderConfigs.put(appenderKey, new AppenderConfig(appender, appenderFormat));
+        AppenderConfig existing = getAppenderConfig(appender);
+        Formatter.Layout layout = null;
+        for (AppenderConfig appenderConfig : this.appenderConfigs.values()) {
+            if (appenderConfig.format.equals(appenderFormat)) {
+                layout = appenderConfig.layout; // shared, so that the appenders are grouped
+                break;
+            }
+        }
+        if (layout == null) {
+            layout = Formatter.Layout.compile(appenderFormat); // once, rather than per log message
+        }
+        AppenderConfig appenderConfig = ((existing == null)
+                ? new AppenderConfig(appender, layout, FlushPolicy.DEFAULT, new Flusher(appender))
+                : new AppenderConfig(appender, layout, existing.flushPolicy, existing.flusher));
+        AppenderConfig old = this.appenderConfigs.put(appenderKey, appenderConfig);
+        this.appenderGroups.set(group(this.appenderConfigs.values()));
         if (appenderFormat.contains("%M")) {
             needsMethod.set(true);
         } else if ((old != null) && old.format.contains("%M")) {
@@ -295,6 +614,35 @@ public final class UncialConfig implements UncialConfigMBean {
         }
     }
 
+    /**
+     * Sets when {@code forAppender} is flushed (by default {@link FlushPolicy#DEFAULT}).  Has no effect if
+     * {@code forAppender} has not been added.
+     * @param forAppender for which to set {@code flushPolicy}
+     * @param flushPolicy to apply to {@code forAppender}
+     */
+    @Override
+    public synchronized void setFlushPolicy(Appender forAppender, FlushPolicy flushPolicy) {
+        if ((forAppender == null) || (flushPolicy == null)) {
+            return;
+        }
+        AppenderConfig existing = getAppenderConfig(forAppender);
+        if (existing == null) {
+            return;
+        }
+        this.appenderConfigs.put(forAppender.getClass().getName(),
+                new AppenderConfig(forAppender, existing.layout, flushPolicy, existing.flusher));
+        this.appenderGroups.set(group(this.appenderConfigs.values()));
+    }
+
+    /**
+     * @param forAppender for which to get the flush policy
+     * @return the flush policy of {@code forAppender} or null if {@code forAppender} has not been added
+     */
+    public FlushPolicy getFlushPolicy(Appender forAppender) {
+        AppenderConfig existing = (forAppender == null ? null : getAppenderConfig(forAppender));
+        return (existing == null ? null : existing.flushPolicy);
+    }
+
     /**
      * Sets {@code format} for the given {@link Appender} {@code forAppender}.  Note, if there was no {@link Appender}
      * before this method call there will be one after (equivalent to calling {@link #addAppender(Appender, String)}
@@ -452,7 +800,376 @@ public final class UncialConfig implements UncialConfigMBean {
         return this.loggerComparator.get();
     }
 
+    /**
+     * Sets the policy applied to log events when the queue to the appender thread is over budget
+     * (see {@link #setMaxQueuedEvents(int)} and {@link #setMaxQueuedBytes(long)}).  Only applicable to the
+     * {@link Distribution#RING_BUFFER} (the default), {@link Distribution#VIRTUAL_THREADS} and
+     * {@link Distribution#PER_APPENDER_THREADS} distributions; the queue of {@link Distribution#SEPARATE_THREAD} is
+     * unbounded, {@link Distribution#STRIPED} and {@link Distribution#PARALLEL_FORMATTING} have the logging thread wait
+     * for space (as {@link OverflowPolicy#BLOCK}) and the other distributions hand events to the appenders on the
+     * logging thread.
+     * @param overflowPolicy to apply when the queue is over budget
+     */
+    @Override
+    public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+        if (overflowPolicy == null) {
+            return;
+        }
+        this.overflowPolicy.set(overflowPolicy);
+    }
+
+    /**
+     * @return the current overflow policy
+     */
+    public OverflowPolicy getOverflowPolicy() {
+        return this.overflowPolicy.get();
+    }
+
+    /**
+     * Sets the level used by {@link OverflowPolicy#DROP_BELOW_LEVEL}; events whose level is less than {@code level}
+     * (according to the level comparator) are dropped when the queue is over budget.
+     * @param level below which events are dropped
+     */
+    @Override
+    public void setOverflowLevel(String level) {
+        if ((level == null) || level.isEmpty()) {
+            return;
+        }
+        this.overflowLevel.set(level);
+    }
+
+    /**
+     * @return the level below which events are dropped by {@link OverflowPolicy#DROP_BELOW_LEVEL}
+     */
+    public String getOverflowLevel() {
+        return this.overflowLevel.get();
+    }
+
+    /**
+     * Sets the maximum number of events which may be queued for the appender thread.  The queue's capacity is always
+     * an upper bound regardless of this value.  Only applicable to the {@link Distribution#RING_BUFFER},
+     * {@link Distribution#VIRTUAL_THREADS} and {@link Distribution#PER_APPENDER_THREADS} distributions; ignored by
+     * {@link Distribution#SEPARATE_THREAD},
+     * {@link Distribution#STRIPED}, {@link Distribution#PARALLEL_FORMATTING} and the distributions which hand events to
+     * the appenders on the logging thread (see {@link #setOverflowPolicy(OverflowPolicy)}).
+     * @param maxQueuedEvents the maximum number of queued events
+     */
+    @Override
+    public void setMaxQueuedEvents(int maxQueuedEvents) {
+        if (maxQueuedEvents < 1) {
+            return;
+        }
+        this.maxQueuedEvents.set(maxQueuedEvents);
+    }
+
+    /**
+     * @return the maximum number of events which may be queued for the appender thread
+     */
+    public int getMaxQueuedEvents() {
+        return this.maxQueuedEvents.get();
+    }
+
+    /**
+     * Sets the maximum number of approximate bytes (counted as the length of the formatted message) which may be queued
+     * for the appender thread.  Only applicable to the {@link Distribution#RING_BUFFER},
+     * {@link Distribution#VIRTUAL_THREADS} and {@link Distribution#PER_APPENDER_THREADS} distributions; ignored by
+     * {@link Distribution#SEPARATE_THREAD},
+     * {@link Distribution#STRIPED}, {@link Distribution#PARALLEL_FORMATTING} and the distributions which hand events to
+     * the appenders on the logging thread (see {@link #setOverflowPolicy(OverflowPolicy)}).
+     * @param maxQueuedBytes the maximum number of queued bytes
+     */
+    @Override
+    public void setMaxQueuedBytes(long maxQueuedBytes) {
+        if (maxQueuedBytes < 1L) {
+            return;
+        }
+        this.maxQueuedBytes.set(maxQueuedBytes);
+    }
+
+    /**
+     * @return the maximum number of approximate bytes which may be queued for the appender thread
+     */
+    public long getMaxQueuedBytes() {
+        return this.maxQueuedBytes.get();
+    }
+
+    /**
+     * Sets the directory in which the files used by {@link OverflowPolicy#SPILL} are created (defaults to
+     * {@literal java.io.tmpdir}).  Each queue creates its file upon first spilling and deletes it when stopped.
+     * @param spillDirectory in which to create spill files
+     */
+    @Override
+    public void setSpillDirectory(String spillDirectory) {
+        if ((spillDirectory == null) || spillDirectory.isEmpty()) {
+            return;
+        }
+        this.spillDirectory.set(spillDirectory);
+    }
+
+    /**
+     * @return the directory in which spill files are created
+     */
+    public String getSpillDirectory() {
+        return this.spillDirectory.get();
+    }
+
+    /**
+     * Sets the size of the files used by {@link OverflowPolicy#SPILL} (at most {@link Integer#MAX_VALUE}); applies to
+     * files created subsequently.
+     * @param maxSpillBytes the size of each spill file
+     */
+    @Override
+    public void setMaxSpillBytes(long maxSpillBytes) {
+        if (maxSpillBytes < 1L) {
+            return;
+        }
+        this.maxSpillBytes.set(maxSpillBytes);
+    }
+
+    /**
+     * @return the size of each spill file
+     */
+    public long getMaxSpillBytes() {
+        return this.maxSpillBytes.get();
+    }
+
+    /**
+     * Sets the level at or above which (according to the level comparator) events bypass the normal queue to the
+     * appender thread; they are either placed in a priority lane which is always drained first or, if
+     * {@link #setPrioritySynchronous(boolean)}, handed to the appenders directly on the logging thread.  Null disables
+     * the priority lane (the default).  Only applicable to the {@link Distribution#RING_BUFFER} (the default),
+     * {@link Distribution#VIRTUAL_THREADS} and {@link Distribution#PER_APPENDER_THREADS} distributions; the others hand
+     * events to the appenders in the order logged regardless of level.
+     * @param level at or above which events are prioritized; null to disable
+     */
+    @Override
+    public void setPriorityLevel(String level) {
+        this.priorityLevel.set(((level == null) || level.isEmpty()) ? null : level);
+    }
+
+    /**
+     * @return the level at or above which events are prioritized or null if there is no prioritization
+     */
+    public String getPriorityLevel() {
+        return this.priorityLevel.get();
+    }
+
+    /**
+     * @param prioritySynchronous true to have prioritized events (see {@link #setPriorityLevel(String)}) handed to the
+     *                            appenders on the logging thread rather than placed in the priority lane; only
+     *                            applicable to the distributions which have a priority lane.
+     */
+    @Override
+    public void setPrioritySynchronous(boolean prioritySynchronous) {
+        this.prioritySynchronous.set(prioritySynchronous);
+    }
+
+    /**
+     * @return true if prioritized events are handed to the appenders on the logging thread
+     */
+    public boolean isPrioritySynchronous() {
+        return this.prioritySynchronous.get();
+    }
+
+    /**
+     * Sets whether log messages whose parameters are all immutable ({@link String}, boxed primitives, enums and
+     * {@link Immutable} types) are formatted when handed to the appenders (i.e., on the appender thread when logging
+     * happens on a separate thread) rather than on the logging thread (initially taken from system property
+     * {@literal uncial.deferredFormatting}, defaulting to false).  Messages with any other parameter are always
+     * formatted on the logging thread as the parameters may be modified once the log call returns.  Note, errors from
+     * formatting a deferred message are printed to {@link System#err} rather than thrown to the logging thread.
+     * @param deferredFormatting true to defer formatting of messages with only immutable parameters
+     */
+    @Override
+    public void setDeferredFormatting(boolean deferredFormatting) {
+        this.deferredFormatting.set(deferredFormatting);
+    }
+
+    /**
+     * @return true if formatting of messages with only immutable parameters is deferred
+     */
+    public boolean isDeferredFormatting() {
+        return this.deferredFormatting.get();
+    }
+
+    /**
+     * Sets what the appender thread does while there are no log events to handle (initially taken from system property
+     * {@literal uncial.waitStrategy}, defaulting to {@link WaitStrategy#BLOCKING}).  Takes effect the next time the
+     * appender thread falls idle.  Only applicable when logging happens on a separate thread via one of the ring-buffer
+     * based distributors.
+     * @param waitStrategy for the appender thread
+     */
+    @Override
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        if (waitStrategy == null) {
+            return;
+        }
+        this.waitStrategy.set(waitStrategy);
+    }
+
+    /**
+     * @return the current wait strategy of the appender thread
+     */
+    public WaitStrategy getWaitStrategy() {
+        return this.waitStrategy.get();
+    }
+
+    /**
+     * Changes how log events are handed to the appenders (initially chosen via system properties, see
+     * {@link Distribution#fromSystemProperties()}).  Logging threads are held while events already accepted by the
+     * current distribution are handed to the appenders; this method returns once the new distribution is in effect.
+     * @param distribution to use
+     */
+    @Override
+    public void setDistribution(Distribution distribution) {
+        if (distribution == null) {
+            return;
+        }
+        Loggers.appenderExecutor.switchTo(distribution);
+    }
+
+    /**
+     * @return the current distribution of log events to the appenders
+     */
+    @Override
+    public Distribution getDistribution() {
+        return Loggers.appenderExecutor.getDistribution();
+    }
+
+    /**
+     * Sets the maximum time for which queued log events are handed to the appenders at {@literal JVM} shutdown (initially
+     * taken from system property {@literal uncial.shutdownTimeout}, defaulting to {@link #DEFAULT_SHUTDOWN_TIMEOUT}).
+     * Events not handed to the appenders within this time are dropped (and reported on standard error).
+     * @param shutdownTimeout in milliseconds
+     */
+    @Override
+    public void setShutdownTimeout(long shutdownTimeout) {
+        if (shutdownTimeout < 0L) {
+            return;
+        }
+        this.shutdownTimeout.set(shutdownTimeout);
+    }
+
+    /**
+     * @return the maximum time, in milliseconds, for which queued log events are handed to the appenders at shutdown
+     */
+    public long getShutdownTimeout() {
+        return this.shutdownTimeout.get();
+    }
+
+    /**
+     * @return the number of log events dropped because the queue to the appender thread was over budget; always zero
+     *         unless the distribution applies the overflow policy (see {@link #setOverflowPolicy(OverflowPolicy)})
+     */
+    @Override
+    public long getDroppedEvents() {
+        return this.droppedEvents.get();
+    }
+
+    /**
+     * @return the approximate bytes of formatted messages dropped because the queue to the appender thread was over budget
+     */
+    @Override
+    public long getDroppedBytes() {
+        return this.droppedBytes.get();
+    }
+
+    /**
+     * Records that a log event whose formatted message was {@code bytes} long was dropped.
+     * @param bytes of the dropped event's formatted message
+     */
+    void dropped(int bytes) {
+        this.droppedEvents.incrementAndGet();
+        this.droppedBytes.addAndGet(bytes);
+    }
+
+    /**
+     * @return the number of events waiting to be handed to each appender (keyed by {@link Appender#getName()}).  Only
+     *         populated when each appender has its own queue (i.e., system property {@literal uncial.perAppenderThreads}).
+     */
+    @Override
+    public Map<String, Integer> getAppenderLag() {
+        Map<String, Integer> lag = new HashMap<String, Integer>(appenderQueues.size());
+        for (Map.Entry<Appender, AsyncQueue> entry : appenderQueues.entrySet()) {
+            lag.put(entry.getKey().getName(), entry.getValue().lag());
+        }
+        return lag;
+    }
+
+    /**
+     * @return the number of events dropped for each appender (keyed by {@link Appender#getName()}).  Only
+     *         populated when each appender has its own queue (i.e., system property {@literal uncial.perAppenderThreads}).
+     */
+    @Override
+    public Map<String, Long> getAppenderDroppedEvents() {
+        Map<String, Long> dropped = new HashMap<String, Long>(appenderQueues.size());
+        for (Map.Entry<Appender, AsyncQueue> entry : appenderQueues.entrySet()) {
+            dropped.put(entry.getKey().getName(), entry.getValue().getDroppedEvents());
+        }
+        return dropped;
+    }
+
+    /**
+     * Associates {@code queue} with {@code appender} for the purpose of reporting statistics.
+     * @param appender the appender fed by {@code queue}
+     * @param queue the queue dedicated to {@code appender}
+     */
+    void register(Appender appender, AsyncQueue queue) {
+        this.appenderQueues.put(appender, queue);
+    }
+
+    /**
+     * @param appender for which to remove the associated queue
+     */
+    void unregister(Appender appender) {
+        this.appenderQueues.remove(appender);
+    }
+
+    /**
+     * @param appender for which to retrieve the configuration
+     * @return the configuration for {@code appender} or null if {@code appender} is not configured.
+     */
+    AppenderConfig getAppenderConfig(Appender appender) {
+        AppenderConfig appenderConfig = this.appenderConfigs.get(appender.getClass().getName());
+        return (((appenderConfig != null) && (appenderConfig.appender == appender)) ? appenderConfig : null);
+    }
+
     Collection<AppenderConfig> getAppenderConfigs() {
         return this.appenderConfigs.values();
     }
+
+    /**
+     * Removes all appenders; for tests, which otherwise see the appenders added by one another.
+     */
+    synchronized void clearAppenders() {
+        this.appenderConfigs.clear();
+        this.appenderGroups.set(group(this.appenderConfigs.values()));
+    }
+
+    /**
+     * @return the appender configurations grouped by compiled layout
+     */
+    AppenderGroup[] getAppenderGroups() {
+        return this.appenderGroups.get();
+    }
+
+    private static AppenderGroup[] group(Collection<AppenderConfig> appenderConfigs) {
+        Map<Formatter.Layout, List<AppenderConfig>> byLayout = new LinkedHashMap<Formatter.Layout, List<AppenderConfig>>();
+        for (AppenderConfig appenderConfig : appenderConfigs) {
+            List<AppenderConfig> group = byLayout.get(appenderConfig.layout);
+            if (group == null) {
+                group = new ArrayList<AppenderConfig>(2);
+                byLayout.put(appenderConfig.layout, group);
+            }
+            group.add(appenderConfig);
+        }
+        AppenderGroup[] appenderGroups = new AppenderGroup[byLayout.size()];
+        int index = 0;
+        for (Map.Entry<Formatter.Layout, List<AppenderConfig>> entry : byLayout.entrySet()) {
+            List<AppenderConfig> group = entry.getValue();
+            appenderGroups[index++] = new AppenderGroup(entry.getKey(),
+                    group.toArray(new AppenderConfig[group.size()]));
+        }
+        return appenderGroups;
+    }
 }
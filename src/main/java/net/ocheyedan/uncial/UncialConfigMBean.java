@@ -3,6 +3,7 @@ package net.ocheyedan.uncial;
 import net.ocheyedan.uncial.appender.Appender;
 
 import java.util.Comparator;
+import java.util.Map;
 
 /**
  * User: blangel
@@ -54,6 +55,13 @@ public interface UncialConfigMBean {
      */
     void setFormat(Appender forAppender, String format);
 
+    /**
+     * Sets when {@code forAppender} is flushed (by the thread writing to it).
+     * @param forAppender for which to set {@code flushPolicy}
+     * @param flushPolicy to apply to {@code forAppender}
+     */
+    void setFlushPolicy(Appender forAppender, FlushPolicy flushPolicy);
+
     /**
      * Sets {@code level} as the logging level for any class matching {@code forClass}
      * @param forClass the fully/partially qualified class name for which to assign {@code level}
@@ -91,4 +99,119 @@ public interface UncialConfigMBean {
      * @param loggerComparator which to use as the logging comparator.
      */
     void setLoggerComparator(Comparator<String> loggerComparator);
+
+    /**
+     * Sets the policy applied to log events when the queue to the appender thread is over budget.  Only applicable to
+     * the {@link Distribution#RING_BUFFER} (the default), {@link Distribution#VIRTUAL_THREADS} and
+     * {@link Distribution#PER_APPENDER_THREADS} distributions; the queue of {@link Distribution#SEPARATE_THREAD} is
+     * unbounded, {@link Distribution#STRIPED} and {@link Distribution#PARALLEL_FORMATTING} have the logging thread wait
+     * for space and the other distributions hand events to the appenders on the logging thread.
+     * @param overflowPolicy to apply when the queue is over budget
+     */
+    void setOverflowPolicy(OverflowPolicy overflowPolicy);
+
+    /**
+     * Sets the level below which events are dropped when the queue is over budget and the overflow policy is
+     * {@link OverflowPolicy#DROP_BELOW_LEVEL}.
+     * @param level below which events are dropped
+     */
+    void setOverflowLevel(String level);
+
+    /**
+     * Sets the maximum number of events which may be queued for the appender thread.  Only applicable to the
+     * {@link Distribution#RING_BUFFER}, {@link Distribution#VIRTUAL_THREADS} and
+     * {@link Distribution#PER_APPENDER_THREADS} distributions (see {@link #setOverflowPolicy(OverflowPolicy)}).
+     * @param maxQueuedEvents the maximum number of queued events
+     */
+    void setMaxQueuedEvents(int maxQueuedEvents);
+
+    /**
+     * Sets the maximum number of approximate bytes (counted as the length of the formatted message) which may be queued
+     * for the appender thread.  Only applicable to the {@link Distribution#RING_BUFFER},
+     * {@link Distribution#VIRTUAL_THREADS} and {@link Distribution#PER_APPENDER_THREADS} distributions (see
+     * {@link #setOverflowPolicy(OverflowPolicy)}).
+     * @param maxQueuedBytes the maximum number of queued bytes
+     */
+    void setMaxQueuedBytes(long maxQueuedBytes);
+
+    /**
+     * Sets the directory in which the files used by {@link OverflowPolicy#SPILL} are created.
+     * @param spillDirectory in which to create spill files
+     */
+    void setSpillDirectory(String spillDirectory);
+
+    /**
+     * Sets the size of the files used by {@link OverflowPolicy#SPILL}.
+     * @param maxSpillBytes the size of each spill file
+     */
+    void setMaxSpillBytes(long maxSpillBytes);
+
+    /**
+     * Sets the level at or above which events bypass the normal queue to the appender thread, either via a priority lane
+     * which is always drained first or synchronously (see {@link #setPrioritySynchronous(boolean)}).  Only applicable
+     * to the {@link Distribution#RING_BUFFER}, {@link Distribution#VIRTUAL_THREADS} and
+     * {@link Distribution#PER_APPENDER_THREADS} distributions.
+     * @param level at or above which events are prioritized; null to disable
+     */
+    void setPriorityLevel(String level);
+
+    /**
+     * @param prioritySynchronous true to have prioritized events handed to the appenders on the logging thread rather
+     *                            than placed in the priority lane; only applicable to the distributions which have a
+     *                            priority lane (see {@link #setPriorityLevel(String)}).
+     */
+    void setPrioritySynchronous(boolean prioritySynchronous);
+
+    /**
+     * @param deferredFormatting true to have log messages whose parameters are all immutable formatted when handed to the
+     *                           appenders rather than on the logging thread.
+     */
+    void setDeferredFormatting(boolean deferredFormatting);
+
+    /**
+     * Sets what the appender thread does while there are no log events to handle; trading idle CPU for wakeup latency.
+     * @param waitStrategy for the appender thread
+     */
+    void setWaitStrategy(WaitStrategy waitStrategy);
+
+    /**
+     * Changes how log events are handed to the appenders (e.g., from a separate thread to the logging thread).  Events
+     * already accepted are handed to the appenders before the new distribution takes effect.
+     * @param distribution to use
+     */
+    void setDistribution(Distribution distribution);
+
+    /**
+     * @return the current distribution of log events to the appenders
+     */
+    Distribution getDistribution();
+
+    /**
+     * Sets the maximum time for which queued log events are handed to the appenders at {@literal JVM} shutdown.
+     * @param shutdownTimeout in milliseconds
+     */
+    void setShutdownTimeout(long shutdownTimeout);
+
+    /**
+     * @return the number of log events dropped because the queue to the appender thread was over budget; always zero
+     *         unless the distribution applies the overflow policy (see {@link #setOverflowPolicy(OverflowPolicy)})
+     */
+    long getDroppedEvents();
+
+    /**
+     * @return the approximate bytes of formatted messages dropped because the queue to the appender thread was over budget
+     */
+    long getDroppedBytes();
+
+    /**
+     * @return the number of events waiting to be handed to each appender (keyed by appender name) when each appender has
+     *         its own queue.
+     */
+    Map<String, Integer> getAppenderLag();
+
+    /**
+     * @return the number of events dropped for each appender (keyed by appender name) when each appender has its own
+     *         queue.
+     */
+    Map<String, Long> getAppenderDroppedEvents();
 }
@@ -0,0 +1,59 @@
+package net.ocheyedan.uncial;
+
+import java.lang.reflect.Method;
+
+/**
+ * User: blangel
+ * Date: 6/10/12
+ * Time: 4:15 PM
+ *
+ * Creates virtual threads when running on a {@literal JVM} which supports them (accessed reflectively, so as to
+ * compile against earlier versions) and otherwise falls back to daemon platform threads.  Virtual threads are always
+ * daemon threads.
+ */
+final class VirtualThreadFactory extends DaemonThreadFactory {
+
+    /**
+     * {@literal Thread.ofVirtual()} or null if virtual threads are not supported.
+     */
+    private static final Method ofVirtual;
+
+    /**
+     * {@literal Thread.Builder.unstarted(Runnable)} or null if virtual threads are not supported.
+     */
+    private static final Method unstarted;
+
+    static {
+        Method ofVirtualMethod, unstartedMethod;
+        try {
+            ofVirtualMethod = Thread.class.getMethod("ofVirtual");
+            unstartedMethod = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+        } catch (Exception e) {
+            ofVirtualMethod = null;
+            unstartedMethod = null;
+        }
+        ofVirtual = ofVirtualMethod;
+        unstarted = unstartedMethod;
+    }
+
+    /**
+     * @return true if this {@literal JVM} supports virtual threads
+     */
+    static boolean isSupported() {
+        return (unstarted != null);
+    }
+
+    @Override public Thread newThread(Runnable r) {
+        if (unstarted == null) {
+            return super.newThread(r);
+        }
+        try {
+            // builders are not thread-safe, use a new one for each thread
+            return (Thread) unstarted.invoke(ofVirtual.invoke(null), r);
+        } catch (Exception e) {
+            System.err.println(e.getMessage());
+            return super.newThread(r);
+        }
+    }
+
+}
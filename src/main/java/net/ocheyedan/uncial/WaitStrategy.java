@@ -0,0 +1,80 @@
+package net.ocheyedan.uncial;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * User: blangel
+ * Date: 6/7/12
+ * Time: 8:32 AM
+ *
+ * Dictates what the appender thread does when there are no log events waiting to be handled; trading idle CPU for
+ * the latency with which a newly logged event is picked up.  Only applicable to the ring-buffer based distributors.
+ * @see UncialConfig#setWaitStrategy(WaitStrategy)
+ */
+public enum WaitStrategy {
+
+    /**
+     * The appender thread parks until a logging thread wakes it.  Uses no CPU while idle but each wakeup costs the
+     * logging thread an unpark and the appender thread a reschedule.
+     */
+    BLOCKING {
+        @Override void idle(Object blocker, int idleCount) {
+            LockSupport.parkNanos(blocker, MAX_PARK_NANOS);
+        }
+        @Override boolean requiresSignal() {
+            return true;
+        }
+    },
+
+    /**
+     * The appender thread parks for a period which doubles (from a microsecond up to ten milliseconds) for as long as it
+     * remains idle.  Logging threads never need to wake it, so events logged while busy are picked up quickly and an
+     * idle thread costs little CPU; the first event after a long idle period may wait up to the maximum period.
+     */
+    TIMED_PARK {
+        @Override void idle(Object blocker, int idleCount) {
+            LockSupport.parkNanos(blocker, Math.min(MAX_PARK_NANOS, MIN_PARK_NANOS << Math.min(idleCount, 14)));
+        }
+    },
+
+    /**
+     * The appender thread yields its processor to other runnable threads.  Low latency whenever there are spare cores,
+     * at the cost of a core kept busy while idle.
+     */
+    YIELD {
+        @Override void idle(Object blocker, int idleCount) {
+            Thread.yield();
+        }
+    },
+
+    /**
+     * The appender thread spins without giving up its processor.  The lowest wakeup latency, at the cost of an entire
+     * core while idle; only sensible when there are more cores than busy threads.
+     */
+    BUSY_SPIN {
+        @Override void idle(Object blocker, int idleCount) {
+            // re-check immediately
+        }
+    };
+
+    private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1L);
+
+    private static final long MAX_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(10L);
+
+    /**
+     * Invoked by the appender thread each time it finds nothing to handle.
+     * @param blocker the object responsible for the appender thread parking
+     * @param idleCount the number of consecutive times (prior to this one) nothing was found to handle
+     */
+    abstract void idle(Object blocker, int idleCount);
+
+    /**
+     * @return true if the appender thread relies upon logging threads to wake it (in which case the appender thread
+     *         must advertise that it is waiting and re-check for events before calling {@link #idle(Object, int)}).
+     */
+    boolean requiresSignal() {
+        return false;
+    }
+
+}
@@ -0,0 +1,31 @@
+package net.ocheyedan.uncial.appender;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**
+ * User: blangel
+ * Date: 6/15/12
+ * Time: 7:45 AM
+ *
+ * An {@link Appender} which is handed its messages already encoded, saving the creation of a {@link String} per
+ * message (and the copy made when encoding it).  The {@literal Uncial} framework renders each message directly into a
+ * buffer (encoded in {@link #getCharset()}) reused across messages.  {@link #handle(String)} is only invoked by callers
+ * other than the framework itself; unless a subclass overrides {@link #handle(String)} but not
+ * {@link #handle(ByteBuffer)}, in which case the framework hands it strings so that the override is not bypassed.
+ */
+public interface ByteAppender extends Appender {
+
+    /**
+     * @return the charset in which messages handed to {@link #handle(ByteBuffer)} are encoded
+     */
+    Charset getCharset();
+
+    /**
+     * Handle the log {@code message}; i.e., the bytes between its position and limit.  The buffer is reused once this
+     * method returns and so implementations must write or copy the bytes before then.
+     * @param message to log, encoded in {@link #getCharset()}
+     */
+    void handle(ByteBuffer message);
+
+}
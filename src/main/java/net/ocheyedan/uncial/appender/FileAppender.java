@@ -1,6 +1,8 @@
 package net.ocheyedan.uncial.appender;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 
 /**
  * User: blangel
@@ -9,23 +11,42 @@ import java.io.*;
  *
  * A simple file based {@link Appender}.  The log file is never rolled.  See {@link RollingFileAppender} is such behavior
  * is needed.
+ * <p/>
+ * A {@link ByteAppender}; the framework hands it messages already encoded (in {@link #getCharset()}) and so
+ * {@link #handle(String)} is not invoked.  A subclass overriding {@link #handle(String)} (to decorate or filter the
+ * output), without also overriding {@link #handle(ByteBuffer)}, is instead handed strings.
  */
-public class FileAppender implements Appender {
+public class FileAppender implements ByteAppender {
 
     private final File file;
 
-    private final Writer fileWriter;
+    private final Charset charset;
+
+    private final OutputStream fileStream;
 
     public FileAppender(String filePath) {
         this(new File(filePath));
     }
 
     public FileAppender(File file) {
+        this(file, Charset.defaultCharset());
+    }
+
+    public FileAppender(String filePath, Charset charset) {
+        this(new File(filePath), charset);
+    }
+
+    /**
+     * @param file to which to log
+     * @param charset in which to encode the log messages
+     */
+    public FileAppender(File file, Charset charset) {
         this.file = file;
+        this.charset = charset;
         this.file.getParentFile().mkdirs();
         try {
             this.file.createNewFile();
-            fileWriter = new BufferedWriter(new FileWriter(file, true));
+            fileStream = new BufferedOutputStream(new FileOutputStream(file, true));
         } catch (IOException ioe) {
             throw new IllegalArgumentException(
                     String.format("Could not create log-file %s [ at path %s ].", file.getName(), file.getAbsolutePath()), ioe);
@@ -36,9 +57,21 @@ public class FileAppender implements Appender {
         return String.format("%s - %s", getClass().getSimpleName(), file.getName());
     }
 
+    @Override public Charset getCharset() {
+        return charset;
+    }
+
     @Override public void handle(String message) {
         try {
-            fileWriter.write(message);
+            fileStream.write(message.getBytes(charset));
+        } catch (IOException ioe) {
+            System.err.println(ioe.getMessage());
+        }
+    }
+
+    @Override public void handle(ByteBuffer message) {
+        try {
+            write(fileStream, message);
         } catch (IOException ioe) {
             System.err.println(ioe.getMessage());
         }
@@ -46,7 +79,7 @@ public class FileAppender implements Appender {
 
     @Override public void flush() {
         try {
-            fileWriter.flush();
+            fileStream.flush();
         } catch (IOException ioe) {
             System.err.println(ioe.getMessage());
         }
@@ -54,9 +87,26 @@ public class FileAppender implements Appender {
 
     @Override public void close() {
         try {
-            fileWriter.close();
+            fileStream.close();
         } catch (IOException ioe) {
             System.err.println(ioe.getMessage());
         }
     }
+
+    /**
+     * Writes the remaining bytes of {@code message} to {@code stream}.
+     * @param stream to which to write
+     * @param message to write
+     * @throws IOException @see {@link OutputStream#write(byte[], int, int)}
+     */
+    static void write(OutputStream stream, ByteBuffer message) throws IOException {
+        if (message.hasArray()) {
+            stream.write(message.array(), message.arrayOffset() + message.position(), message.remaining());
+            message.position(message.limit());
+        } else {
+            byte[] bytes = new byte[message.remaining()];
+            message.get(bytes);
+            stream.write(bytes);
+        }
+    }
 }
@@ -1,12 +1,16 @@
 package net.ocheyedan.uncial.appender;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
-import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * User: blangel
@@ -15,15 +19,27 @@ import java.util.concurrent.atomic.AtomicReference;
  *
  * Similar to {@link FileAppender} but users pass in parameters which dictate when the file should be "rolled", that is
  * another file created and logged to.
+ * <p/>
+ * A {@link ByteAppender}; the framework hands it messages already encoded (in {@link #getCharset()}) and so
+ * {@link #handle(String)} is not invoked.  A subclass overriding {@link #handle(String)} (to decorate or filter the
+ * output), without also overriding {@link #handle(ByteBuffer)}, is instead handed strings.
  */
-public class RollingFileAppender implements Appender {
+public class RollingFileAppender implements ByteAppender {
 
-    private final AtomicReference<FileWriter> writer;
+    private final AtomicReference<OutputStream> writer;
 
     private final File file;
 
+    private final Charset charset;
+
     private final RollingPolicy rollingPolicy;
 
+    /**
+     * Guards rolling and writing; a {@link ReentrantLock} rather than a monitor so that waiting virtual threads do not
+     * pin their carrier thread.
+     */
+    private final ReentrantLock lock = new ReentrantLock();
+
     /**
      * Creates a {@link RollingFileAppender} which rolls the log file {@code every} {@code unit} of time.
      * The rolled log files will be renamed with the corresponding date for which they logged.
@@ -43,17 +59,28 @@ public class RollingFileAppender implements Appender {
      * @param unit the unit for {@code every} (e.g., day)
      */
     public RollingFileAppender(File file, int every, TimeUnit unit) {
-        this(file, new RollingPolicy.Timed(every, unit));
+        this(file, every, unit, Charset.defaultCharset());
+    }
+
+    /**
+     * Creates a {@link RollingFileAppender} which rolls the log file {@code every} {@code unit} of time.
+     * The rolled log files will be renamed with the corresponding date for which they logged.
+     * @param file to which to log
+     * @param every the duration in {@code unit} which to roll the log (e.g., 1 day)
+     * @param unit the unit for {@code every} (e.g., day)
+     * @param charset in which to encode the log messages
+     */
+    public RollingFileAppender(File file, int every, TimeUnit unit, Charset charset) {
+        this(file, new RollingPolicy.Timed(every, unit), charset);
     }
 
     /**
      * Creates a {@link RollingFileAppender} which rolls the log file whenever the file reaches {@code every} {@code unit}
      * of size.
      * <p/>
-     * Note, the size chosen should be considered with the following caveat.  The underlying {@link FileWriter} will
-     * not be flushed (unless closed) and so this number should consider that the buffered amount of the {@link FileWriter}'s
-     * underlying {@link java.io.OutputStream} may be more than this size in which case the file will not actually be
-     * rolled until the buffer size has been reached.
+     * Note, the size chosen should be considered with the following caveat.  The underlying {@link OutputStream} is
+     * buffered and so this number should consider that the buffered amount of the {@link OutputStream} may be more than
+     * this size in which case the file will not actually be rolled until the buffer size has been reached.
      * <p/>
      * The rolled log files will be renamed with the corresponding date at which they were rolled.
      * @param file to which to log
@@ -68,10 +95,9 @@ public class RollingFileAppender implements Appender {
      * Creates a {@link RollingFileAppender} which rolls the log file whenever the file reaches {@code every} {@code unit}
      * of size.
      * <p/>
-     * Note, the size chosen should be considered with the following caveat.  The underlying {@link FileWriter} will
-     * not be flushed (unless closed) and so this number should consider that the buffered amount of the {@link FileWriter}'s
-     * underlying {@link java.io.OutputStream} may be more than this size in which case the file will not actually be
-     * rolled until the buffer size has been reached.
+     * Note, the size chosen should be considered with the following caveat.  The underlying {@link OutputStream} is
+     * buffered and so this number should consider that the buffered amount of the {@link OutputStream} may be more than
+     * this size in which case the file will not actually be rolled until the buffer size has been reached.
      * <p/>
      * The rolled log files will be renamed with the corresponding date at which they were rolled.
      * @param file to which to log
@@ -79,13 +105,26 @@ public class RollingFileAppender implements Appender {
      * @param unit the unit for {@code every} (e.g., MB)
      */
     public RollingFileAppender(File file, long every, SizeUnit unit) {
-        this(file, new RollingPolicy.Sized(every, unit));
+        this(file, every, unit, Charset.defaultCharset());
     }
 
-    private RollingFileAppender(File file, RollingPolicy rollingPolicy) {
+    /**
+     * Creates a {@link RollingFileAppender} which rolls the log file whenever the file reaches {@code every} {@code unit}
+     * of size.  See {@link #RollingFileAppender(File, long, SizeUnit)} for the caveat as to the size chosen.
+     * @param file to which to log
+     * @param every the size at which to roll the log file (e.g., 50 MB)
+     * @param unit the unit for {@code every} (e.g., MB)
+     * @param charset in which to encode the log messages
+     */
+    public RollingFileAppender(File file, long every, SizeUnit unit, Charset charset) {
+        this(file, new RollingPolicy.Sized(every, unit), charset);
+    }
+
+    private RollingFileAppender(File file, RollingPolicy rollingPolicy, Charset charset) {
         this.file = file;
         this.rollingPolicy = rollingPolicy;
-        this.writer = new AtomicReference<FileWriter>();
+        this.charset = charset;
+        this.writer = new AtomicReference<OutputStream>();
         update();
     }
 
@@ -95,7 +134,7 @@ public class RollingFileAppender implements Appender {
             this.file.createNewFile();
             FileOutputStream stream = new FileOutputStream(this.file, true);
             FileChannel channel = stream.getChannel();
-            this.writer.set(new FileWriter(stream.getFD()));
+            this.writer.set(new BufferedOutputStream(stream));
             this.rollingPolicy.update(channel);
         } catch (IOException ioe) {
             throw new IllegalArgumentException(
@@ -107,9 +146,17 @@ public class RollingFileAppender implements Appender {
         return String.format("%s - %s", getClass().getSimpleName(), file.getName());
     }
 
+    @Override public Charset getCharset() {
+        return charset;
+    }
+
     @Override public void handle(String message) {
+        handle(ByteBuffer.wrap(message.getBytes(charset)));
+    }
 
-        synchronized (rollingPolicy) {
+    @Override public void handle(ByteBuffer message) {
+        lock.lock();
+        try {
             try {
                 if (rollingPolicy.shouldRoll()) {
                     // close current writer
@@ -121,36 +168,42 @@ public class RollingFileAppender implements Appender {
                     if (!success) {
                         System.err.printf("Failed to rename file [ %s ] to [ %s ].", file.getName(), renamed.getName());
                     }
-                    // update reference to new FileWriter and update FileChannel for RollingPolicy
+                    // update reference to new stream and update FileChannel for RollingPolicy
                     update();
                 }
             } catch (IOException ioe) {
                 System.err.println(ioe.getMessage());
             }
-        }
-
-        // TODO - likely need this within the synchronized block (Thread A is still doing write below when ThreadB closes writer above)
-
-        try {
-            writer.get().write(message);
-        } catch (IOException ioe) {
-            System.err.println(ioe.getMessage());
+            // written while holding the lock so that another thread cannot roll (closing the writer) mid-write
+            try {
+                FileAppender.write(writer.get(), message);
+            } catch (IOException ioe) {
+                System.err.println(ioe.getMessage());
+            }
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override public void flush() {
+        lock.lock();
         try {
             writer.get().flush();
         } catch (IOException ioe) {
             System.err.println(ioe.getMessage());
+        } finally {
+            lock.unlock();
         }
     }
 
     @Override public void close() {
+        lock.lock();
         try {
             writer.get().close();
         } catch (IOException ioe) {
             System.err.println(ioe.getMessage());
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -0,0 +1,929 @@
+package net.ocheyedan.uncial;
+
+import net.ocheyedan.uncial.appender.Appender;
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IllegalFormatException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static junit.framework.Assert.fail;
+
+/**
+ * User: blangel
+ * Date: 6/9/12
+ * Time: 2:40 PM
+ */
+public class DistributorTest {
+
+    /**
+     * Records each line handed to it, optionally taking a fixed time to handle each message.
+     */
+    private static final class RecordingAppender implements Appender {
+
+        private final List<String> lines = new ArrayList<String>();
+
+        private final Set<String> handled = new HashSet<String>();
+
+        private final long handleNanos;
+
+        private int flushes;
+
+        private RecordingAppender() {
+            this(0L);
+        }
+
+        private RecordingAppender(long handleNanos) {
+            this.handleNanos = handleNanos;
+        }
+
+        @Override public String getName() {
+            return "recording";
+        }
+        @Override public synchronized void handle(String message) {
+            if (handleNanos > 0L) {
+                LockSupport.parkNanos(handleNanos);
+            }
+            for (String line : message.split("\n")) {
+                lines.add(line);
+                handled.add(line);
+            }
+        }
+        @Override public synchronized void flush() {
+            flushes++;
+        }
+        @Override public void close() { }
+
+        private synchronized int getFlushes() {
+            return flushes;
+        }
+
+        private synchronized List<String> getLines() {
+            return new ArrayList<String>(lines);
+        }
+
+        private synchronized boolean wasHandled(String line) {
+            return handled.contains(line);
+        }
+    }
+
+    /**
+     * Blocks the thread handing it messages until released, recording each line once released.
+     */
+    private static final class BlockingAppender implements Appender {
+
+        private final String name;
+
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        private final AtomicInteger handed = new AtomicInteger(0);
+
+        private final List<String> lines = new ArrayList<String>();
+
+        private BlockingAppender(String name) {
+            this.name = name;
+        }
+
+        @Override public String getName() {
+            return name;
+        }
+        @Override public void handle(String message) {
+            String[] split = message.split("\n");
+            handed.addAndGet(split.length);
+            boolean interrupted = false;
+            while (released.getCount() > 0L) {
+                try {
+                    released.await();
+                } catch (InterruptedException ie) {
+                    interrupted = true;
+                }
+            }
+            synchronized (this) {
+                lines.addAll(Arrays.asList(split));
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        @Override public void flush() { }
+        @Override public void close() { }
+
+        private void release() {
+            released.countDown();
+        }
+
+        /**
+         * @return the number of lines handed to the appender, including those of the message it is blocked upon
+         */
+        private int getHanded() {
+            return handed.get();
+        }
+
+        private synchronized List<String> getLines() {
+            return new ArrayList<String>(lines);
+        }
+    }
+
+    @Test
+    public void switchable() throws InterruptedException {
+        RecordingAppender appender = new RecordingAppender();
+        UncialConfig.get().addAppender(appender, "%m%n");
+
+        final Distributor.Switchable distributor = new Distributor.Switchable(Distribution.RING_BUFFER);
+        final int producers = 2;
+        final int perProducer = 5000;
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            final int producer = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override public void run() {
+                    Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+                    for (int j = 0; j < perProducer; j++) {
+                        distributor.distribute(meta, Logger.info, producer + "-" + j);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        Distribution[] distributions = Distribution.values();
+        int switches = 0;
+        while (threads[0].isAlive() || threads[1].isAlive()) {
+            distributor.switchTo(distributions[switches++ % distributions.length]);
+            assertEquals(distributions[(switches - 1) % distributions.length], distributor.getDistribution());
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // once synchronous, all events accepted by the previous distributor have been handed to the appender
+        distributor.switchTo(Distribution.SINGLE_THREADED);
+
+        List<String> lines = appender.getLines();
+        assertEquals(producers * perProducer, lines.size());
+        int[] lastSeen = new int[] { -1, -1 };
+        for (String line : lines) {
+            String[] split = line.split("-");
+            int producer = Integer.parseInt(split[0]);
+            int value = Integer.parseInt(split[1]);
+            assertTrue(value == (lastSeen[producer] + 1));
+            lastSeen[producer] = value;
+        }
+    }
+
+    @Test
+    public void combining() throws InterruptedException {
+        final RecordingAppender appender = new RecordingAppender();
+        UncialConfig.get().addAppender(appender, "%m%n");
+
+        final Distributor.Combining distributor = new Distributor.Combining();
+        final int producers = 4;
+        final int perProducer = 2000;
+        final AtomicReference<String> failure = new AtomicReference<String>();
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            final int producer = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override public void run() {
+                    Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+                    for (int j = 0; j < perProducer; j++) {
+                        String message = producer + "-" + j;
+                        distributor.distribute(meta, Logger.info, message);
+                        // synchronous; handed to the appender (possibly by another thread) before returning
+                        if (!appender.wasHandled(message)) {
+                            failure.set(message);
+                        }
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(null, failure.get());
+        assertEquals(producers * perProducer, appender.getLines().size());
+    }
+
+    @Test
+    public void parallelFormatting() throws InterruptedException {
+        RecordingAppender appender = new RecordingAppender();
+        UncialConfig.get().addAppender(appender, "%l %m%n");
+
+        final Distributor.ParallelFormatting distributor = new Distributor.ParallelFormatting(64, 3);
+        final int producers = 4;
+        final int perProducer = 5000;
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            final int producer = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override public void run() {
+                    Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+                    for (int j = 0; j < perProducer; j++) {
+                        distributor.distribute(meta, Logger.info, producer + "-" + j);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(0, distributor.stop(TimeUnit.SECONDS.toNanos(10L)));
+
+        // formatted by different threads yet handed to the appender in order
+        List<String> lines = appender.getLines();
+        assertEquals(producers * perProducer, lines.size());
+        int[] lastSeen = new int[] { -1, -1, -1, -1 };
+        for (String line : lines) {
+            assertTrue(line.startsWith(Logger.info + " "));
+            String[] split = line.substring(Logger.info.length() + 1).split("-");
+            int producer = Integer.parseInt(split[0]);
+            int value = Integer.parseInt(split[1]);
+            assertTrue(value == (lastSeen[producer] + 1));
+            lastSeen[producer] = value;
+        }
+    }
+
+    @Test
+    public void deferredFormatting() {
+        final Set<Thread> formattedOn = Collections.synchronizedSet(new HashSet<Thread>());
+        Immutable immutable = new Immutable() {
+            @Override public String toString() {
+                formattedOn.add(Thread.currentThread());
+                return "immutable";
+            }
+        };
+        UncialConfig.get().setDeferredFormatting(true);
+        try {
+            for (Distribution distribution : Distribution.values()) {
+                RecordingAppender appender = new RecordingAppender();
+                UncialConfig.get().addAppender(appender, "%m%n");
+                formattedOn.clear();
+                Distributor.Switchable distributor = new Distributor.Switchable(distribution);
+                Uncial uncial = new Uncial(DistributorTest.class, new Formatter.Printf(), distributor);
+                StringBuilder mutable = new StringBuilder("before");
+                uncial.info("%s %d %s", immutable, 1, TimeUnit.SECONDS);
+                uncial.info("%s %s", immutable, mutable); // not deferred, the StringBuilder may change
+                mutable.setLength(0);
+                mutable.append("after");
+                assertEquals(0, distributor.stop(TimeUnit.SECONDS.toNanos(10L)));
+                assertEquals(Arrays.asList("immutable 1 SECONDS", "immutable before"), appender.getLines());
+                boolean synchronous = ((distribution == Distribution.SINGLE_THREADED)
+                        || (distribution == Distribution.FLAT_COMBINING));
+                // formatted on the logging thread and, if deferred, also by the appender thread(s)
+                assertTrue(formattedOn.contains(Thread.currentThread()));
+                assertEquals(distribution.name(), !synchronous, (formattedOn.size() > 1));
+            }
+        } finally {
+            UncialConfig.get().setDeferredFormatting(false);
+        }
+    }
+
+    @Test
+    public void renderedInPlace() {
+        final AtomicInteger formatted = new AtomicInteger(0);
+        Object counting = new Object() {
+            @Override public String toString() {
+                formatted.incrementAndGet();
+                return "counting";
+            }
+        };
+        for (Distribution distribution : Distribution.values()) {
+            RecordingAppender appender = new RecordingAppender();
+            UncialConfig.get().addAppender(appender, "[%l] %m%n");
+            formatted.set(0);
+            Distributor.Switchable distributor = new Distributor.Switchable(distribution);
+            Uncial uncial = new Uncial(DistributorTest.class, new Formatter.Printf(), distributor);
+            StringBuilder mutable = new StringBuilder("before");
+            uncial.info("%s %s", counting, mutable);
+            mutable.setLength(0);
+            mutable.append("after");
+            try {
+                uncial.info("%d", "not a number");
+                fail(distribution.name());
+            } catch (IllegalFormatException ife) {
+                // thrown to the logging thread, as when formatted before being distributed
+            }
+            assertEquals(0, distributor.stop(TimeUnit.SECONDS.toNanos(10L)));
+            assertEquals(Arrays.asList("[info] counting before"), appender.getLines());
+            // once, however many appenders
+            assertEquals(distribution.name(), 1, formatted.get());
+        }
+    }
+
+    @Test
+    public void combiningFormatFailures() throws InterruptedException {
+        RecordingAppender appender = new RecordingAppender(TimeUnit.MICROSECONDS.toNanos(100L)); // so callers combine
+        UncialConfig.get().addAppender(appender, "%m%n");
+        try {
+            Distributor.Switchable distributor = new Distributor.Switchable(Distribution.FLAT_COMBINING);
+            final Uncial uncial = new Uncial(DistributorTest.class, new Formatter.Printf(), distributor);
+            final AtomicInteger misplaced = new AtomicInteger(0);
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                final int producer = i;
+                threads[i] = new Thread(new Runnable() {
+                    @Override public void run() {
+                        for (int j = 0; j < 500; j++) {
+                            try {
+                                if ((j % 10) == 0) {
+                                    uncial.info("%d", "not a number");
+                                    misplaced.incrementAndGet(); // expected to throw
+                                } else {
+                                    uncial.info("%d-%d", producer, j);
+                                }
+                            } catch (IllegalFormatException ife) {
+                                if ((j % 10) != 0) {
+                                    misplaced.incrementAndGet(); // another caller's failure
+                                }
+                            }
+                        }
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(0, distributor.stop(TimeUnit.SECONDS.toNanos(10L)));
+            // each failure to format is rethrown only to its own caller, the other events of its batch are handed over
+            assertEquals(0, misplaced.get());
+            assertEquals(threads.length * 450, appender.getLines().size());
+        } finally {
+            UncialConfig.get().addAppender(new RecordingAppender(), "%m%n");
+        }
+    }
+
+    @Test
+    public void waitStrategies() throws InterruptedException {
+        WaitStrategy original = UncialConfig.get().getWaitStrategy();
+        try {
+            for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+                UncialConfig.get().setWaitStrategy(waitStrategy);
+                RecordingAppender appender = new RecordingAppender();
+                UncialConfig.get().addAppender(appender, "%m%n");
+                Distributor.Switchable distributor = new Distributor.Switchable(Distribution.RING_BUFFER);
+                try {
+                    assertDelivered(waitStrategy, distributor, appender);
+                } finally {
+                    distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+                }
+            }
+        } finally {
+            UncialConfig.get().setWaitStrategy(original);
+        }
+    }
+
+    private static void assertDelivered(WaitStrategy waitStrategy, final Distributor distributor,
+                                        RecordingAppender appender) throws InterruptedException {
+        final int producers = 2;
+        final int perProducer = 2000;
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            final int producer = i;
+            threads[i] = new Thread(new Runnable() {
+                @Override public void run() {
+                    Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+                    for (int j = 0; j < perProducer; j++) {
+                        distributor.distribute(meta, Logger.info, producer + "-" + j);
+                        if ((j % 100) == 0) {
+                            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(200L)); // let the consumer idle
+                        }
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        // every event arrives without stopping (which would itself wake the consumer)
+        long start = System.nanoTime();
+        while ((appender.getLines().size() < (producers * perProducer))
+                && ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(10L))) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+        }
+        List<String> lines = appender.getLines();
+        assertEquals(waitStrategy.name(), producers * perProducer, lines.size());
+        int[] lastSeen = new int[] { -1, -1 };
+        for (String line : lines) {
+            String[] split = line.split("-");
+            int producer = Integer.parseInt(split[0]);
+            int value = Integer.parseInt(split[1]);
+            assertTrue(waitStrategy.name(), value == (lastSeen[producer] + 1));
+            lastSeen[producer] = value;
+        }
+        if (!waitStrategy.requiresSignal()) {
+            return;
+        }
+        // an idle consumer is woken by the producer rather than by the expiry of its (bounded) park
+        Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+        int slow = 0;
+        for (int i = 0; i < 100; i++) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(2L)); // let the consumer park
+            int expected = appender.getLines().size() + 1;
+            long sent = System.nanoTime();
+            distributor.distribute(meta, Logger.info, "wake");
+            while (appender.getLines().size() < expected) {
+                Thread.yield();
+            }
+            if ((System.nanoTime() - sent) >= TimeUnit.MILLISECONDS.toNanos(5L)) {
+                slow++;
+            }
+        }
+        assertTrue(waitStrategy.name() + " " + slow, slow < 50);
+    }
+
+    @Test
+    public void perAppenderThreads() {
+        UncialConfig config = UncialConfig.get();
+        OverflowPolicy overflowPolicy = config.getOverflowPolicy();
+        int maxQueuedEvents = config.getMaxQueuedEvents();
+        config.clearAppenders();
+        RecordingAppender recording = new RecordingAppender();
+        BlockingAppender blocked = new BlockingAppender("blocked");
+        config.addAppender(recording, "%m%n");
+        config.addAppender(blocked, "%m%n");
+        config.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        config.setMaxQueuedEvents(100);
+        Distributor.PerAppenderThreads distributor = new Distributor.PerAppenderThreads(1024, 16);
+        try {
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            for (int i = 0; i < 1000; i++) {
+                distributor.distribute(meta, Logger.info, String.valueOf(i));
+                if ((i % 50) == 49) {
+                    awaitLines(recording, i + 1); // so that only the blocked appender's queue is over budget
+                }
+            }
+            // the recording appender is handed every event, in order, while the other appender is blocked
+            List<String> lines = recording.getLines();
+            assertEquals(1000, lines.size());
+            for (int i = 0; i < 1000; i++) {
+                assertEquals(String.valueOf(i), lines.get(i));
+            }
+            int handed = blocked.getHanded();
+            assertTrue((handed > 0) && (handed <= 16));
+            assertEquals(Integer.valueOf(0), config.getAppenderLag().get("recording"));
+            assertEquals(Integer.valueOf(100), config.getAppenderLag().get("blocked"));
+            assertEquals(Long.valueOf(0L), config.getAppenderDroppedEvents().get("recording"));
+            assertEquals(Long.valueOf(1000L - 100L - handed), config.getAppenderDroppedEvents().get("blocked"));
+
+            // once released, the blocked appender is handed what it was blocked upon and then the newest 100 events
+            blocked.release();
+            long start = System.nanoTime();
+            while ((blocked.getLines().size() < (handed + 100))
+                    && ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(10L))) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+            }
+            List<String> blockedLines = blocked.getLines();
+            assertEquals(handed + 100, blockedLines.size());
+            for (int i = 1; i < handed; i++) {
+                assertTrue(Integer.parseInt(blockedLines.get(i - 1)) < Integer.parseInt(blockedLines.get(i)));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals(String.valueOf(900 + i), blockedLines.get(handed + i));
+            }
+
+            // a replaced appender's queue is retired and its replacement's created
+            BlockingAppender replacement = new BlockingAppender("replacement");
+            replacement.release();
+            config.addAppender(replacement, "%m%n");
+            distributor.distribute(meta, Logger.info, "replaced");
+            assertEquals(new HashSet<String>(Arrays.asList("recording", "replacement")),
+                    config.getAppenderLag().keySet());
+        } finally {
+            distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+            config.setOverflowPolicy(overflowPolicy);
+            config.setMaxQueuedEvents(maxQueuedEvents);
+            config.clearAppenders();
+        }
+        assertTrue(config.getAppenderLag().isEmpty());
+    }
+
+    private static void awaitLines(RecordingAppender appender, int lines) {
+        long start = System.nanoTime();
+        while ((appender.getLines().size() < lines) && ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(10L))) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+        }
+    }
+
+    @Test
+    public void defaultDistributionIsBounded() {
+        UncialConfig config = UncialConfig.get();
+        OverflowPolicy overflowPolicy = config.getOverflowPolicy();
+        int maxQueuedEvents = config.getMaxQueuedEvents();
+        config.clearAppenders();
+        BlockingAppender blocked = new BlockingAppender("blocked");
+        config.addAppender(blocked, "%m%n");
+        config.setOverflowPolicy(OverflowPolicy.DROP_OLDEST);
+        config.setMaxQueuedEvents(100);
+        Distributor.Switchable distributor = new Distributor.Switchable(Distribution.fromSystemProperties());
+        try {
+            assertEquals(Distribution.RING_BUFFER, distributor.getDistribution());
+            long dropped = config.getDroppedEvents();
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            distributor.distribute(meta, Logger.info, "first");
+            long start = System.nanoTime();
+            while ((blocked.getHanded() == 0) && ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(10L))) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+            }
+            assertEquals(1, blocked.getHanded());
+            for (int i = 0; i < 1000; i++) {
+                distributor.distribute(meta, Logger.info, String.valueOf(i));
+            }
+            // the logging thread is not held by the blocked appender; all but the newest 100 queued are dropped
+            assertEquals(900L, config.getDroppedEvents() - dropped);
+        } finally {
+            blocked.release();
+            distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+            config.setOverflowPolicy(overflowPolicy);
+            config.setMaxQueuedEvents(maxQueuedEvents);
+            config.clearAppenders();
+        }
+    }
+
+    @Test
+    public void virtualThreads() throws Exception {
+        final AtomicReference<Thread> handledOn = new AtomicReference<Thread>();
+        UncialConfig config = UncialConfig.get();
+        config.clearAppenders();
+        config.addAppender(new Appender() {
+            @Override public String getName() {
+                return "handledOn";
+            }
+            @Override public void handle(String message) {
+                handledOn.set(Thread.currentThread());
+            }
+            @Override public void flush() { }
+            @Override public void close() { }
+        }, "%m%n");
+        Distributor.Switchable distributor = new Distributor.Switchable(Distribution.VIRTUAL_THREADS);
+        try {
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            distributor.distribute(meta, Logger.info, "virtual");
+            long start = System.nanoTime();
+            while ((handledOn.get() == null) && ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(10L))) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+            }
+            // handed over by the distributor's own thread; a virtual thread if the JVM supports them
+            Thread thread = handledOn.get();
+            assertTrue((thread != null) && (thread != Thread.currentThread()) && thread.isDaemon());
+            assertTrue(distributor.owns(thread));
+            boolean virtual;
+            try {
+                virtual = (Boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+            } catch (NoSuchMethodException nsme) {
+                virtual = false;
+            }
+            assertEquals(VirtualThreadFactory.isSupported(), virtual);
+        } finally {
+            distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+            config.clearAppenders();
+        }
+    }
+
+    @Test
+    public void priorityLane() {
+        UncialConfig config = UncialConfig.get();
+        config.clearAppenders();
+        BlockingAppender blocked = new BlockingAppender("blocked");
+        config.addAppender(blocked, "%m%n");
+        config.setPriorityLevel(Logger.warn);
+        Distributor.RingBufferThread distributor = new Distributor.RingBufferThread(1024, 16);
+        try {
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            distributor.distribute(meta, Logger.info, "first");
+            long start = System.nanoTime();
+            while ((blocked.getHanded() == 0) && ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(10L))) {
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+            }
+            assertEquals(1, blocked.getHanded());
+            // a backlog of normal events with prioritized events logged amongst them
+            for (int i = 0; i < 100; i++) {
+                distributor.distribute(meta, Logger.info, "n" + i);
+                if ((i % 10) == 9) {
+                    distributor.distribute(meta, ((i % 20) == 9) ? Logger.warn : Logger.error, "p" + (i / 10));
+                }
+            }
+            blocked.release();
+            start = System.nanoTime();
+            while ((blocked.getLines().size() < 111) && ((System.nanoTime() - start) < TimeUnit.SECONDS.toNanos(10L))) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1L));
+            }
+            // the prioritized events are handed over ahead of the backlog; each lane in the order logged
+            List<String> lines = blocked.getLines();
+            assertEquals(111, lines.size());
+            assertEquals("first", lines.get(0));
+            for (int i = 0; i < 10; i++) {
+                assertEquals("p" + i, lines.get(1 + i));
+            }
+            for (int i = 0; i < 100; i++) {
+                assertEquals("n" + i, lines.get(11 + i));
+            }
+        } finally {
+            blocked.release();
+            distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+            config.setPriorityLevel(null);
+            config.clearAppenders();
+        }
+    }
+
+    @Test
+    public void prioritySynchronous() {
+        UncialConfig config = UncialConfig.get();
+        config.clearAppenders();
+        RecordingAppender appender = new RecordingAppender(TimeUnit.MILLISECONDS.toNanos(20L));
+        config.addAppender(appender, "%m%n");
+        config.setPriorityLevel(Logger.error);
+        config.setPrioritySynchronous(true);
+        Distributor.RingBufferThread distributor = new Distributor.RingBufferThread(1024, 1);
+        try {
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            for (int i = 0; i < 10; i++) {
+                distributor.distribute(meta, Logger.info, "n" + i);
+            }
+            // handed to the appender by the logging thread, ahead of the backlog still queued for the appender thread
+            distributor.distribute(meta, Logger.error, "p");
+            assertTrue(appender.wasHandled("p"));
+            assertTrue(appender.getLines().size() < 11);
+        } finally {
+            distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+            config.setPrioritySynchronous(false);
+            config.setPriorityLevel(null);
+            config.clearAppenders();
+        }
+        List<String> lines = appender.getLines();
+        assertEquals(11, lines.size());
+        lines.remove("p");
+        for (int i = 0; i < 10; i++) {
+            assertEquals("n" + i, lines.get(i));
+        }
+    }
+
+    @Test
+    public void stop() {
+        RecordingAppender appender = new RecordingAppender();
+        UncialConfig.get().addAppender(appender, "%m%n");
+
+        Distributor.Switchable distributor = new Distributor.Switchable(Distribution.RING_BUFFER);
+        Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+        for (int i = 0; i < 1000; i++) {
+            distributor.distribute(meta, Logger.info, String.valueOf(i));
+        }
+        assertEquals(0, distributor.stop(TimeUnit.SECONDS.toNanos(10L)));
+        assertEquals(1000, appender.getLines().size());
+        // no longer accepting
+        distributor.distribute(meta, Logger.info, "after");
+        assertEquals(1000, appender.getLines().size());
+        assertEquals(0, distributor.stop(TimeUnit.SECONDS.toNanos(10L)));
+        // nor switching
+        distributor.switchTo(Distribution.SINGLE_THREADED);
+        assertEquals(Distribution.RING_BUFFER, distributor.getDistribution());
+    }
+
+    @Test
+    public void stopDoesNotFlush() {
+        RecordingAppender appender = new RecordingAppender(TimeUnit.MILLISECONDS.toNanos(5L));
+        UncialConfig.get().addAppender(appender, "%m%n");
+        UncialConfig.get().setFlushPolicy(appender, new FlushPolicy(true, Long.MAX_VALUE, TimeUnit.HOURS.toMillis(1L)));
+        // the default distributor's thread would otherwise flush the appender whenever it falls idle
+        Distribution distribution = Loggers.appenderExecutor.getDistribution();
+        Loggers.appenderExecutor.switchTo(Distribution.SINGLE_THREADED);
+        try {
+            Distributor.Switchable distributor = new Distributor.Switchable(Distribution.SEPARATE_THREAD);
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            for (int i = 0; i < 20; i++) {
+                distributor.distribute(meta, Logger.info, String.valueOf(i));
+            }
+            // the queue only empties while stopping, when the appender is not flushed (the caller flushes)
+            assertEquals(0, distributor.stop(TimeUnit.SECONDS.toNanos(10L)));
+            assertEquals(20, appender.getLines().size());
+            assertEquals(0, appender.getFlushes());
+        } finally {
+            Loggers.appenderExecutor.switchTo(distribution);
+            UncialConfig.get().addAppender(new RecordingAppender(), "%m%n");
+        }
+    }
+
+    @Test
+    public void separateThreadReusesEvents() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            return; // cannot measure on this JVM
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadMXBean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        RecordingAppender appender = new RecordingAppender();
+        UncialConfig.get().addAppender(appender, "%m%n");
+        Distributor.Switchable distributor = new Distributor.Switchable(Distribution.SEPARATE_THREAD);
+        try {
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            String message = "reused";
+            int chunk = (Distributor.SeparateThread.POOL_SIZE / 2);
+            int distributed = 0;
+            long perEvent = Long.MAX_VALUE;
+            for (int attempt = 0; (attempt < 5) && (perEvent >= 64L); attempt++) { // the first attempts warm up
+                long allocated = 0L;
+                for (int i = 0; i < 20; i++) {
+                    long before = threads.getThreadAllocatedBytes(threadId);
+                    for (int j = 0; j < chunk; j++) {
+                        distributor.distribute(meta, Logger.info, message);
+                    }
+                    allocated += (threads.getThreadAllocatedBytes(threadId) - before);
+                    distributed += chunk;
+                    // let the runners return to the pool
+                    while (appender.getLines().size() < distributed) {
+                        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+                    }
+                }
+                perEvent = (allocated / (20L * chunk));
+            }
+            // only the executor's queue node; not a runner and its event
+            assertTrue(perEvent < 64L);
+        } finally {
+            distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+            UncialConfig.get().addAppender(new RecordingAppender(), "%m%n");
+        }
+    }
+
+    @Test
+    public void ringBufferAllocatesNothing() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            return; // cannot measure on this JVM
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadMXBean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        UncialConfig config = UncialConfig.get();
+        boolean deferredFormatting = config.isDeferredFormatting();
+        RecordingAppender appender = new RecordingAppender();
+        config.addAppender(appender, "%m%n");
+        config.setLevel(DistributorTest.class, Logger.info);
+        config.setDeferredFormatting(true);
+        Distributor.Switchable distributor = new Distributor.Switchable(Distribution.RING_BUFFER);
+        Logger logger = new Uncial(DistributorTest.class, new Formatter.Printf(), distributor);
+        try {
+            int chunk = 500;
+            int distributed = 0;
+            long allocated = -1L;
+            for (int attempt = 0; (attempt < 5) && (allocated != 0L); attempt++) { // the first attempts warm up
+                allocated = 0L;
+                for (int i = 0; i < 20; i++) {
+                    long start = threads.getThreadAllocatedBytes(threadId);
+                    long overhead = threads.getThreadAllocatedBytes(threadId) - start; // of measuring itself
+                    long before = threads.getThreadAllocatedBytes(threadId);
+                    for (int j = 0; j < chunk; j++) {
+                        logger.info("constant");
+                        logger.info("%s", "a");
+                        logger.info("%s %s", "a", TimeUnit.SECONDS);
+                        logger.info("%s %s %s", "a", 'b', 3);
+                        logger.info("%s %s %s %s", "a", 'b', 3, 4L);
+                    }
+                    allocated += (threads.getThreadAllocatedBytes(threadId) - before - overhead);
+                    distributed += (5 * chunk);
+                    // not measuring the logging thread waiting for the appender thread
+                    while (appender.getLines().size() < distributed) {
+                        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100L));
+                    }
+                }
+            }
+            assertEquals(0L, allocated);
+            List<String> lines = appender.getLines();
+            assertEquals(Arrays.asList("constant", "a", "a SECONDS", "a b 3", "a b 3 4"), lines.subList(0, 5));
+        } finally {
+            distributor.stop(TimeUnit.SECONDS.toNanos(10L));
+            config.setDeferredFormatting(deferredFormatting);
+            config.addAppender(new RecordingAppender(), "%m%n");
+        }
+    }
+
+    @Test
+    public void stopTimeout() {
+        RecordingAppender appender = new RecordingAppender(TimeUnit.MILLISECONDS.toNanos(20L));
+        UncialConfig.get().addAppender(appender, "%m%n");
+        try {
+            Distributor.Switchable distributor = new Distributor.Switchable(Distribution.RING_BUFFER);
+            Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+            for (int i = 0; i < 1000; i++) {
+                distributor.distribute(meta, Logger.info, String.valueOf(i));
+            }
+            int dropped = distributor.stop(TimeUnit.MILLISECONDS.toNanos(1L));
+            assertTrue(dropped > 0);
+            distributor.distribute(meta, Logger.info, "after");
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(200L)); // let the consumer finish its current batch
+            // every event was either handed to the appender or reported as dropped (including the rejected event)
+            assertEquals(1001, appender.getLines().size() + dropped + 1);
+        } finally {
+            UncialConfig.get().addAppender(new RecordingAppender(), "%m%n");
+        }
+    }
+
+    @Test
+    public void flushPolicy() {
+        RecordingAppender appender = new RecordingAppender();
+        UncialConfig.get().addAppender(appender, "%m%n");
+        UncialConfig.get().setFlushPolicy(appender, new FlushPolicy(false, 10L, TimeUnit.HOURS.toMillis(1L)));
+
+        Distributor.InvokingThread distributor = new Distributor.InvokingThread();
+        Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+        distributor.distribute(meta, Logger.info, "abc");
+        distributor.distribute(meta, Logger.info, "abc");
+        distributor.idle();
+        distributor.flushIfDue();
+        assertEquals(0, appender.getFlushes());
+        // over the byte threshold
+        distributor.distribute(meta, Logger.info, "abc");
+        assertEquals(1, appender.getFlushes());
+
+        UncialConfig.get().setFlushPolicy(appender, new FlushPolicy(true, 10L, TimeUnit.HOURS.toMillis(1L)));
+        distributor.idle();
+        assertEquals(1, appender.getFlushes()); // nothing unflushed
+        distributor.distribute(meta, Logger.info, "abc");
+        distributor.idle();
+        assertEquals(2, appender.getFlushes());
+
+        UncialConfig.get().setFlushPolicy(appender, new FlushPolicy(false, 10L, 1L));
+        distributor.distribute(meta, Logger.info, "abc");
+        long start = System.nanoTime();
+        while ((System.nanoTime() - start) < TimeUnit.MILLISECONDS.toNanos(5L)) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(5L)); // may return early (e.g., a leftover unpark)
+        }
+        distributor.flushIfDue();
+        assertEquals(3, appender.getFlushes());
+    }
+
+    @Test
+    public void flushNeverRacesWrite() throws InterruptedException {
+        final AtomicInteger writing = new AtomicInteger(0);
+        final AtomicInteger overlaps = new AtomicInteger(0);
+        final AtomicInteger flushes = new AtomicInteger(0);
+        Appender appender = new Appender() { // not itself thread-safe
+            @Override public String getName() {
+                return "unsynchronized";
+            }
+            @Override public void handle(String message) {
+                if (writing.incrementAndGet() != 1) {
+                    overlaps.incrementAndGet();
+                }
+                LockSupport.parkNanos(1000L);
+                writing.decrementAndGet();
+            }
+            @Override public void flush() {
+                if (writing.get() != 0) {
+                    overlaps.incrementAndGet();
+                }
+                flushes.incrementAndGet();
+            }
+            @Override public void close() { }
+        };
+        UncialConfig.get().addAppender(appender, "%m%n");
+        UncialConfig.get().setFlushPolicy(appender, new FlushPolicy(false, Long.MAX_VALUE, 1L));
+        try {
+            final Distributor.InvokingThread distributor = new Distributor.InvokingThread();
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(new Runnable() {
+                    @Override public void run() {
+                        Meta meta = new Meta.Default(DistributorTest.class, null, null, null, null, 0L);
+                        for (int j = 0; j < 2000; j++) {
+                            distributor.distribute(meta, Logger.info, String.valueOf(j));
+                        }
+                    }
+                });
+                threads[i].start();
+            }
+            boolean alive = true;
+            while (alive) {
+                distributor.flushIfDue(); // as the sweeper does, concurrently with the writing threads
+                alive = false;
+                for (Thread thread : threads) {
+                    alive |= thread.isAlive();
+                }
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertTrue(flushes.get() > 0);
+            assertEquals(0, overlaps.get());
+        } finally {
+            UncialConfig.get().clearAppenders();
+        }
+    }
+
+}
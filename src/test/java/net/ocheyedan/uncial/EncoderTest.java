@@ -0,0 +1,97 @@
+package net.ocheyedan.uncial;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotSame;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * User: blangel
+ * Date: 6/15/12
+ * Time: 9:20 AM
+ */
+public class EncoderTest {
+
+    private static byte[] bytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    private static void assertEncodes(Encoder encoder, String string) {
+        ByteBuffer encoded = encoder.encode(new StringBuilder(string));
+        try {
+            assertTrue(string, Arrays.equals(string.getBytes(encoder.getCharset()), bytes(encoded)));
+        } finally {
+            encoder.release(encoded);
+        }
+    }
+
+    @Test
+    public void encode() {
+        String[] strings = { "", "ascii only", "caf\u00e9", "\u20ac 5", "\ud83d\ude00 smile", "unpaired \ud83d x",
+                "unpaired \ude00", "ends high \ud83d", "\u00ff\u0100" };
+        Charset[] charsets = { StandardCharsets.UTF_8, StandardCharsets.US_ASCII, StandardCharsets.ISO_8859_1,
+                StandardCharsets.UTF_16, Charset.forName("windows-1252") };
+        Random random = new Random(15L);
+        for (Charset charset : charsets) {
+            Encoder encoder = new Encoder(charset);
+            for (String string : strings) {
+                assertEncodes(encoder, string);
+            }
+            for (int i = 0; i < 200; i++) {
+                char[] chars = new char[random.nextInt(i < 190 ? 100 : 100000)];
+                for (int j = 0; j < chars.length; j++) {
+                    chars[j] = (random.nextInt(4) == 0 ? (char) random.nextInt(Character.MAX_VALUE + 1)
+                            : (char) random.nextInt(0x80));
+                }
+                assertEncodes(encoder, new String(chars));
+            }
+        }
+    }
+
+    @Test
+    public void reuse() {
+        Encoder encoder = new Encoder(StandardCharsets.UTF_8);
+        ByteBuffer first = encoder.encode("first");
+        ByteBuffer nested = encoder.encode("nested"); // e.g., an appender which itself logs
+        assertNotSame(first, nested);
+        assertEquals("first", new String(bytes(first), StandardCharsets.UTF_8));
+        encoder.release(nested);
+        encoder.release(first);
+        ByteBuffer second = encoder.encode("second");
+        assertSame(first, second);
+        assertEquals("second", new String(bytes(second), StandardCharsets.UTF_8));
+        encoder.release(second);
+    }
+
+    @Test
+    public void batchReuse() {
+        // a default sized batch of typical lines; beyond the retained capacity were it sized for the worst case
+        StringBuilder batch = new StringBuilder();
+        for (int i = 0; i < 256; i++) {
+            batch.append("06/15/2012 09:20:00.000 [main] net.ocheyedan.uncial.EncoderTest - [info] ")
+                    .append("the message logged\n");
+        }
+        assertTrue((batch.length() * 3) > (1 << 16));
+        for (String other : new String[] { "", "caf\u00e9 " }) {
+            StringBuilder message = new StringBuilder(other).append(batch);
+            Encoder encoder = new Encoder(StandardCharsets.UTF_8);
+            ByteBuffer first = encoder.encode(message);
+            encoder.release(first);
+            ByteBuffer second = encoder.encode(message);
+            assertSame(first, second);
+            assertTrue(Arrays.equals(message.toString().getBytes(StandardCharsets.UTF_8), bytes(second)));
+            encoder.release(second);
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+package net.ocheyedan.uncial;
+
+import org.junit.Test;
+
+import java.math.BigInteger;
+import java.util.Formattable;
+import java.util.IllegalFormatException;
+import java.util.Locale;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * User: blangel
+ * Date: 6/14/12
+ * Time: 9:10 AM
+ */
+public class FormatterTest {
+
+    @Test
+    public void slf4j() {
+        Formatter formatter = new Formatter.Slf4j();
+        assertEquals("no placeholders", formatter.format("no placeholders"));
+        assertEquals("a 1 b null c", formatter.format("a {} b {} c", 1, null));
+        assertEquals("a 1 b  c", formatter.format("a {} b {} c", 1)); // too few arguments
+        assertEquals("a 1", formatter.format("a {}", 1, 2)); // too many arguments
+        assertEquals("{1 {x} {", formatter.format("{{} {x} {{", 1)); // only a trailing { is dropped
+        assertEquals("}1", formatter.format("}{}", 1));
+        assertEquals("a 1 b  c", render((Formatter.Rendering) formatter, "a {} b {} c", 1));
+        // the same (cached) template with different arguments and an equal but not identical format
+        for (int i = 0; i < 3; i++) {
+            assertEquals("value " + i, formatter.format("value {}", i));
+            assertEquals("value " + i, formatter.format(new String("value {}"), i));
+        }
+        // more formats than fit within the cache
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i + ":" + i, formatter.format(i + ":{}", i));
+        }
+    }
+
+    /**
+     * @return {@code format} and {@code args} rendered by {@code formatter} after existing content
+     */
+    private static String render(Formatter.Rendering formatter, String format, Object ... args) {
+        StringBuilder buffer = new StringBuilder("existing ");
+        formatter.render(buffer, format, args);
+        assertTrue(buffer.toString().startsWith("existing "));
+        return buffer.substring("existing ".length());
+    }
+
+    private static void assertPrintf(Formatter.Printf formatter, String format, Object ... args) {
+        String expected;
+        try {
+            expected = new java.util.Formatter().format(format, args).toString();
+        } catch (IllegalFormatException ife) {
+            try {
+                formatter.format(format, args);
+                throw new AssertionError("Expecting " + ife.getClass().getSimpleName() + " for " + format);
+            } catch (IllegalFormatException ife2) {
+                assertEquals(ife.getClass(), ife2.getClass());
+            }
+            try {
+                render(formatter, format, args);
+                throw new AssertionError("Expecting " + ife.getClass().getSimpleName() + " for " + format);
+            } catch (IllegalFormatException ife2) {
+                assertEquals(ife.getClass(), ife2.getClass());
+                return;
+            }
+        }
+        assertEquals(expected, formatter.format(format, args));
+        assertEquals(expected, render(formatter, format, args));
+    }
+
+    @Test
+    public void printf() {
+        Formatter.Printf formatter = new Formatter.Printf();
+        Formattable formattable = new Formattable() {
+            @Override public void formatTo(java.util.Formatter formatter, int flags, int width, int precision) {
+                formatter.format("formatted");
+            }
+        };
+        assertPrintf(formatter, "no conversions");
+        assertPrintf(formatter, "%s and %d and %x%%%n", "string", 42, 255);
+        assertPrintf(formatter, "%s %s %s", null, 1.5d, formattable);
+        assertPrintf(formatter, "%d %d %d %d %d", Integer.MIN_VALUE, Long.MIN_VALUE, (short) -3, (byte) -4, null);
+        assertPrintf(formatter, "%x %x %x %x %x", -1, -1L, (short) -1, (byte) -1, null);
+        assertPrintf(formatter, "%d %x", BigInteger.valueOf(-12), BigInteger.valueOf(255));
+        assertPrintf(formatter, "%5s|%-3d|%08.2f|%2$s|%S|%b", "a", 1, 1.5d);
+        assertPrintf(formatter, "too many", 1, 2);
+        assertPrintf(formatter, "too few %s %s", 1); // MissingFormatArgumentException
+        assertPrintf(formatter, "%d", "not a number"); // IllegalFormatConversionException
+        assertPrintf(formatter, "%q", 1); // UnknownFormatConversionException
+        assertPrintf(formatter, "trailing %", 1);
+        // the same (cached) format with different arguments
+        for (int i = 0; i < 3; i++) {
+            assertPrintf(formatter, "value %d", i);
+            assertPrintf(formatter, "value %d", "string " + i);
+        }
+    }
+
+    @Test
+    public void printfLocale() {
+        Locale locale = Locale.getDefault(Locale.Category.FORMAT);
+        try {
+            Locale thai = Locale.forLanguageTag("th-TH-u-nu-thai");
+            Locale.setDefault(Locale.Category.FORMAT, thai);
+            Formatter.Printf formatter = new Formatter.Printf(); // its java.util.Formatter is of the default locale
+            assertPrintf(formatter, "%d %x %s", 123, 123, 123);
+            assertTrue(!"123".equals(formatter.format("%d", 123)));
+        } finally {
+            Locale.setDefault(Locale.Category.FORMAT, locale);
+        }
+    }
+
+    private static String formatPrimitive(Formatter.Primitives formatter, String format, Object arg) {
+        try {
+            if (arg instanceof Integer) {
+                return formatter.format(format, (int) (Integer) arg);
+            } else if (arg instanceof Long) {
+                return formatter.format(format, (long) (Long) arg);
+            } else if (arg instanceof Double) {
+                return formatter.format(format, (double) (Double) arg);
+            } else if (arg instanceof Character) {
+                return formatter.format(format, (char) (Character) arg);
+            } else if (arg instanceof Float) {
+                return formatter.format(format, (float) (Float) arg);
+            } else if (arg instanceof Short) {
+                return formatter.format(format, (short) (Short) arg);
+            } else if (arg instanceof Byte) {
+                return formatter.format(format, (byte) (Byte) arg);
+            } else {
+                return formatter.format(format, (boolean) (Boolean) arg);
+            }
+        } catch (IllegalFormatException ife) {
+            return ife.getClass().getName();
+        }
+    }
+
+    private static String formatBoxed(Formatter formatter, String format, Object arg) {
+        try {
+            return formatter.format(format, arg);
+        } catch (IllegalFormatException ife) {
+            return ife.getClass().getName();
+        }
+    }
+
+    @Test
+    public void primitives() {
+        Formatter.Primitives[] formatters = new Formatter.Primitives[] { new Formatter.Printf(), new Formatter.Slf4j() };
+        String[] formats = new String[] { "none", "%s!", "%d!", "[%x]", "%5d", "%d %d", "{}!", "{} {}", "%%%s%n" };
+        Object[] args = new Object[] { -42, Long.MIN_VALUE, 1.5d, -0.0d, true, 'a', 0.1f, (short) -42, (byte) -1 };
+        for (Formatter.Primitives formatter : formatters) {
+            for (String format : formats) {
+                for (Object arg : args) {
+                    // the same as formatting the boxed argument
+                    assertEquals(formatBoxed(formatter, format, arg), formatPrimitive(formatter, format, arg));
+                }
+            }
+        }
+        // narrower primitives are not widened to an int or double
+        Formatter.Printf printf = new Formatter.Printf();
+        assertEquals("char a float 0.1", printf.format("char %s float %s", 'a', 0.1f));
+        assertEquals("char a", printf.format("char %s", 'a'));
+        assertEquals("float 0.1", printf.format("float %s", 0.1f));
+        assertEquals("ff", printf.format("%x", (byte) -1));
+        assertEquals("ffff", printf.format("%x", (short) -1));
+        Formatter.Slf4j slf4j = new Formatter.Slf4j();
+        assertEquals("char a", slf4j.format("char {}", 'a'));
+        assertEquals("float 0.1", slf4j.format("float {}", 0.1f));
+    }
+
+}
@@ -4,8 +4,15 @@ import net.ocheyedan.uncial.appender.Appender;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import static junit.framework.Assert.*;
 
@@ -19,9 +26,7 @@ public class LoggersTest {
     @Before
     public void init() throws NoSuchFieldException, IllegalAccessException {
         UncialConfig config = UncialConfig.get();
-        Field appenderConfigsField = UncialConfig.class.getDeclaredField("appenderConfigs");
-        appenderConfigsField.setAccessible(true);
-        ((ConcurrentMap) appenderConfigsField.get(config)).clear();
+        config.clearAppenders();
         Field loggerConfigsField = UncialConfig.class.getDeclaredField("loggerConfigs");
         loggerConfigsField.setAccessible(true);
         ((ConcurrentMap) loggerConfigsField.get(config)).clear();
@@ -74,4 +79,152 @@ public class LoggersTest {
         assertEquals("NativeMethodAccessorImpl.java", meta.invokingFileName());
     }
 
+    @Test
+    public void metaInPlace() {
+        long now = System.currentTimeMillis();
+        LogEvent event = new LogEvent();
+        Meta meta = Loggers.meta(event, LoggersTest.class, now);
+        assertSame(event, meta);
+        assertEquals(LoggersTest.class, meta.invokingClass());
+        assertEquals(LoggersTest.class.getName(), meta.invokingClassName());
+        assertEquals(now, meta.invokingEpochTime());
+        assertEquals(Thread.currentThread().getName(), meta.invokingThreadName());
+        // copied, not referenced, into another event
+        LogEvent copy = new LogEvent();
+        copy.set(meta, Logger.info, "message");
+        event.clear();
+        assertEquals(LoggersTest.class, copy.invokingClass());
+        assertEquals(now, copy.invokingEpochTime());
+        assertEquals(Thread.currentThread().getName(), copy.invokingThreadName());
+        assertEquals(Logger.info, copy.level);
+        assertEquals("message", copy.formattedMessage);
+    }
+
+    /**
+     * The class for which {@link #disabledAllocatesNothing()}, {@link #suppliers()} and {@link #primitives()} log.
+     */
+    private static final class Disabled {
+        /**
+         * Logs via the static {@link Log} facade, for which this is the invoking class.
+         */
+        static void log(int i, Object param) {
+            Log.trace("int %d", i);
+            Log.debug("long %d", (long) i);
+            Log.info("double %s", (double) i);
+            Log.warn("boolean %s", ((i & 1) == 0));
+            Log.trace("char %s", (char) i);
+            Log.debug("float %s", (float) i);
+            Log.info("short %d", (short) i);
+            Log.warn("byte %d", (byte) i);
+            Log.trace("%s", param);
+            Log.debug("%s %s", param, param);
+            Log.info("%s %s %s", param, param, param);
+            Log.warn("%s %s %s %s", param, param, param, param);
+        }
+    }
+
+    @Test
+    public void disabledAllocatesNothing() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)
+                || !((com.sun.management.ThreadMXBean) threadMXBean).isThreadAllocatedMemorySupported()) {
+            return; // cannot measure on this JVM
+        }
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) threadMXBean;
+        threads.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().getId();
+        UncialConfig.get().setLevel(Disabled.class, Logger.error);
+        Logger logger = Loggers.get(Disabled.class);
+        Object param = "param";
+        long allocated = -1L;
+        for (int attempt = 0; (attempt < 5) && (allocated != 0L); attempt++) { // the first attempts warm up
+            long start = threads.getThreadAllocatedBytes(threadId);
+            long overhead = threads.getThreadAllocatedBytes(threadId) - start; // of measuring itself
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < 10000; i++) {
+                logger.trace("int %d", i);
+                logger.debug("long %d", (long) i);
+                logger.info("double %s", (double) i);
+                logger.warn("boolean %s", ((i & 1) == 0));
+                logger.trace("char %s", (char) i);
+                logger.debug("float %s", (float) i);
+                logger.info("short %d", (short) i);
+                logger.warn("byte %d", (byte) i);
+                logger.trace("%s", param);
+                logger.debug("%s %s", param, param);
+                logger.info("%s %s %s", param, param, param);
+                logger.warn("%s %s %s %s", param, param, param, param);
+                Disabled.log(i, param);
+            }
+            allocated = threads.getThreadAllocatedBytes(threadId) - before - overhead;
+        }
+        assertEquals(0L, allocated);
+    }
+
+    @Test
+    public void suppliers() {
+        final List<String> messages = new ArrayList<String>();
+        UncialConfig.get().addAppender(new Appender() {
+            @Override public String getName() {
+                return "suppliers";
+            }
+            @Override public void handle(String message) {
+                messages.add(message);
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        }, "%m");
+        UncialConfig.get().setLevel(Disabled.class, Logger.info);
+        Logger logger = new Uncial(Disabled.class, new Formatter.Printf(), new Distributor.InvokingThread());
+        final AtomicInteger invoked = new AtomicInteger(0);
+        Supplier<String> expensive = new Supplier<String>() {
+            @Override public String get() {
+                invoked.incrementAndGet();
+                return "expensive";
+            }
+        };
+        logger.debug(expensive);
+        logger.debug("%s", expensive);
+        logger.debug("%s %s", expensive, expensive);
+        logger.debug("%s %s %s %s %s", expensive, expensive, expensive, expensive, expensive);
+        assertEquals(0, invoked.get());
+        assertTrue(messages.isEmpty());
+        logger.info(expensive);
+        logger.info("one %s", expensive);
+        logger.info("two %s %s", expensive, expensive);
+        logger.info("five %s %s %s %s %s", expensive, expensive, expensive, expensive, expensive);
+        assertEquals(9, invoked.get());
+        assertEquals(Arrays.asList("expensive", "one expensive", "two expensive expensive",
+                "five expensive expensive expensive expensive expensive"), messages);
+    }
+
+    @Test
+    public void primitives() {
+        final List<String> messages = new ArrayList<String>();
+        UncialConfig.get().addAppender(new Appender() {
+            @Override public String getName() {
+                return "primitives";
+            }
+            @Override public void handle(String message) {
+                messages.add(message);
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        }, "%m");
+        UncialConfig.get().setLevel(Disabled.class, Logger.info);
+        Logger printf = new Uncial(Disabled.class, new Formatter.Printf(), new Distributor.InvokingThread());
+        printf.info("char %s", 'a');
+        printf.info("float %s", 0.1f);
+        printf.info("short %x", (short) -1);
+        printf.info("byte %x", (byte) -1);
+        printf.info("int %x", -1);
+        printf.info("double %s", 0.1d);
+        Logger slf4j = new Uncial(Disabled.class, new Formatter.Slf4j(), new Distributor.InvokingThread());
+        slf4j.info("char {}", 'a');
+        slf4j.info("float {}", 0.1f);
+        // as for the boxed values; the primitives are not widened
+        assertEquals(Arrays.asList("char a", "float 0.1", "short ffff", "byte ff", "int ffffffff", "double 0.1",
+                "char a", "float 0.1"), messages);
+    }
+
 }
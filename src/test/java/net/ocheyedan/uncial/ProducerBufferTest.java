@@ -0,0 +1,69 @@
+package net.ocheyedan.uncial;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * User: blangel
+ * Date: 6/6/12
+ * Time: 7:40 AM
+ */
+public class ProducerBufferTest {
+
+    @Test
+    public void offerPeekAdvance() {
+        ProducerBuffer buffer = new ProducerBuffer(2, Thread.currentThread(), 0);
+        assertNull(buffer.peek());
+        assertTrue(buffer.offer(null, Logger.info, "first"));
+        assertTrue(buffer.offer(null, Logger.info, "second"));
+        assertFalse(buffer.offer(null, Logger.info, "third")); // full
+        LogEvent event = buffer.peek();
+        assertEquals("first", event.formattedMessage);
+        buffer.advance();
+        assertNull(event.formattedMessage); // cleared upon advance
+        assertTrue(buffer.offer(null, Logger.info, "third"));
+        assertEquals("second", buffer.peek().formattedMessage);
+        buffer.advance();
+        assertEquals("third", buffer.peek().formattedMessage);
+        buffer.advance();
+        assertNull(buffer.peek());
+    }
+
+    @Test
+    public void isAbandoned() throws InterruptedException {
+        assertFalse(new ProducerBuffer(1, Thread.currentThread(), 0).isAbandoned());
+        Thread owner = new Thread();
+        owner.start();
+        owner.join();
+        ProducerBuffer buffer = new ProducerBuffer(1, owner, 1);
+        assertTrue(buffer.offer(null, Logger.info, "pending"));
+        assertFalse(buffer.isAbandoned()); // still has an event to consume
+        buffer.advance();
+        assertTrue(buffer.isAbandoned());
+    }
+
+    @Test
+    public void mergeOrder() {
+        Meta meta = new Meta.Default(ProducerBufferTest.class, null, null, null, null, 1000L);
+        ProducerBuffer busy = new ProducerBuffer(8, Thread.currentThread(), 0);
+        ProducerBuffer quiet = new ProducerBuffer(8, Thread.currentThread(), 1);
+        for (int i = 0; i < 5; i++) {
+            assertTrue(busy.offer(meta, Logger.info, "busy"));
+            busy.advance();
+        }
+        assertTrue(busy.offer(meta, Logger.info, "busy"));
+        assertTrue(quiet.offer(meta, Logger.info, "quiet"));
+        // within the same millisecond, by buffer however many events each has taken
+        assertTrue(Distributor.StripedThreads.isBefore(busy.peek(), busy, quiet.peek(), quiet));
+        assertFalse(Distributor.StripedThreads.isBefore(quiet.peek(), quiet, busy.peek(), busy));
+        Meta later = new Meta.Default(ProducerBufferTest.class, null, null, null, null, 1001L);
+        busy.advance();
+        assertTrue(busy.offer(later, Logger.info, "busy"));
+        assertTrue(Distributor.StripedThreads.isBefore(quiet.peek(), quiet, busy.peek(), busy));
+    }
+
+}
@@ -0,0 +1,178 @@
+package net.ocheyedan.uncial;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * User: blangel
+ * Date: 6/2/12
+ * Time: 9:02 AM
+ */
+public class RingBufferTest {
+
+    @Test
+    public void capacity() {
+        assertEquals(1, new RingBuffer(1).capacity());
+        assertEquals(8, new RingBuffer(5).capacity());
+        assertEquals(8, new RingBuffer(8).capacity());
+        try {
+            new RingBuffer(0);
+            throw new AssertionError("Expecting an IllegalArgumentException as capacity must be positive.");
+        } catch (IllegalArgumentException iae) {
+            // expected
+        }
+    }
+
+    @Test
+    public void claimPublishDrain() {
+        RingBuffer ring = new RingBuffer(2);
+        LogEvent[] batch = batch(2);
+        assertTrue(ring.isEmpty());
+        long first = ring.tryClaim();
+        long second = ring.tryClaim();
+        assertEquals(0L, first);
+        assertEquals(1L, second);
+        assertEquals(-1L, ring.tryClaim()); // full
+        assertEquals(2, ring.size());
+        assertTrue(ring.isEmpty()); // nothing published, although claimed
+        assertEquals(0, ring.drainTo(batch)); // claimed but not yet published
+        ring.get(second).set(null, Logger.info, "second");
+        ring.publish(second);
+        assertEquals(0, ring.drainTo(batch)); // ordering is by claim, first is still not published
+        ring.get(first).set(null, Logger.info, "first");
+        ring.publish(first);
+        assertEquals(2, ring.drainTo(batch));
+        assertEquals("first", batch[0].formattedMessage);
+        assertEquals("second", batch[1].formattedMessage);
+        // the drained slots are cleared and reused for the next lap
+        assertEquals(null, ring.get(first).formattedMessage);
+        assertEquals(0, ring.size());
+        long third = ring.tryClaim();
+        assertEquals(2L, third);
+        assertSame(ring.get(first), ring.get(third));
+    }
+
+    @Test
+    public void batch() {
+        RingBuffer ring = new RingBuffer(8);
+        LogEvent[] batch = batch(4);
+        assertEquals(0, ring.drainTo(batch));
+        for (int i = 0; i < 6; i++) {
+            long position = ring.tryClaim();
+            ring.get(position).set(null, Logger.info, String.valueOf(i));
+            if (i != 2) {
+                ring.publish(position);
+            }
+        }
+        // only the consecutively published prefix is returned
+        assertEquals(2, ring.drainTo(batch));
+        assertEquals("0", batch[0].formattedMessage);
+        assertEquals("1", batch[1].formattedMessage);
+        ring.publish(2L);
+        // bounded by the batch array's length
+        assertEquals(3, ring.drainTo(new LogEvent[] { batch[0], batch[1], batch[2] }));
+        assertEquals("2", batch[0].formattedMessage);
+        assertEquals("4", batch[2].formattedMessage);
+        assertEquals(1, ring.drainTo(batch));
+        assertEquals("5", batch[0].formattedMessage);
+        assertTrue(ring.isEmpty());
+    }
+
+    @Test
+    public void discardOldest() {
+        RingBuffer ring = new RingBuffer(4);
+        assertEquals(-1, ring.discardOldest());
+        for (int i = 0; i < 4; i++) {
+            long position = ring.tryClaim();
+            ring.get(position).set(null, Logger.info, (i == 0 ? "zero" : String.valueOf(i)));
+            ring.publish(position);
+        }
+        assertEquals(-1L, ring.tryClaim());
+        assertEquals(4, ring.discardOldest()); // length of "zero"
+        assertEquals(3, ring.size());
+        long position = ring.tryClaim();
+        assertEquals(4L, position);
+        ring.get(position).set(null, Logger.info, "4");
+        ring.publish(position);
+        LogEvent[] batch = batch(8);
+        assertEquals(4, ring.drainTo(batch));
+        assertEquals("1", batch[0].formattedMessage);
+        assertEquals("4", batch[3].formattedMessage);
+    }
+
+    @Test
+    public void multipleProducers() throws InterruptedException {
+        final RingBuffer ring = new RingBuffer(64);
+        final int producers = 4;
+        final int perProducer = 10000;
+        final CountDownLatch start = new CountDownLatch(1);
+        Thread[] threads = new Thread[producers];
+        for (int i = 0; i < producers; i++) {
+            final String name = String.valueOf(i);
+            threads[i] = new Thread(new Runnable() {
+                @Override public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int j = 0; j < perProducer; j++) {
+                        long position;
+                        while ((position = ring.tryClaim()) == -1L) {
+                            Thread.yield();
+                        }
+                        ring.get(position).set(null, name, String.valueOf(j));
+                        ring.publish(position);
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        start.countDown();
+        int[] lastSeen = new int[producers];
+        for (int i = 0; i < producers; i++) {
+            lastSeen[i] = -1;
+        }
+        Set<String> seen = new HashSet<String>();
+        LogEvent[] batch = batch(16);
+        int consumed = 0;
+        while (consumed < (producers * perProducer)) {
+            int size = ring.drainTo(batch);
+            if (size == 0) {
+                Thread.yield();
+                continue;
+            }
+            for (int i = 0; i < size; i++) {
+                LogEvent event = batch[i];
+                int producer = Integer.parseInt(event.level);
+                int value = Integer.parseInt(event.formattedMessage);
+                // per-producer ordering is preserved
+                assertTrue(value > lastSeen[producer]);
+                lastSeen[producer] = value;
+                assertTrue(seen.add(event.level + "-" + event.formattedMessage));
+            }
+            consumed += size;
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertTrue(ring.isEmpty());
+    }
+
+    private static LogEvent[] batch(int size) {
+        LogEvent[] batch = new LogEvent[size];
+        for (int i = 0; i < size; i++) {
+            batch[i] = new LogEvent();
+        }
+        return batch;
+    }
+
+}
@@ -0,0 +1,94 @@
+package net.ocheyedan.uncial;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+/**
+ * User: blangel
+ * Date: 6/12/12
+ * Time: 8:20 PM
+ */
+public class SpillFileTest {
+
+    private static LogEvent[] events(int size) {
+        LogEvent[] events = new LogEvent[size];
+        for (int i = 0; i < size; i++) {
+            events[i] = new LogEvent();
+        }
+        return events;
+    }
+
+    @Test
+    public void appendDrain() {
+        SpillFile spillFile = SpillFile.create(System.getProperty("java.io.tmpdir"), 1024L);
+        assertNotNull(spillFile);
+        try {
+            Meta meta = new Meta.Default(SpillFileTest.class, "appendDrain", 42, "SpillFileTest.java", "main", 1234L);
+            assertTrue(spillFile.append(meta, Logger.info, "first \u00e9"));
+            assertTrue(spillFile.append(null, Logger.warn, "second"));
+            assertTrue(spillFile.append(new Meta.Default(null, null, null, null, null, 0L), null, null));
+            assertEquals(3, spillFile.size());
+
+            LogEvent[] events = events(2);
+            assertEquals(2, spillFile.drainTo(events));
+            assertEquals(SpillFileTest.class, events[0].invokingClass());
+            assertEquals("appendDrain", events[0].invokingMethodName());
+            assertEquals(42, (int) events[0].invokingLineNumber());
+            assertEquals("SpillFileTest.java", events[0].invokingFileName());
+            assertEquals("main", events[0].invokingThreadName());
+            assertEquals(1234L, events[0].invokingEpochTime());
+            assertEquals(Logger.info, events[0].level);
+            assertEquals("first \u00e9", events[0].formattedMessage);
+            assertNull(events[1].invokingClass());
+            assertNull(events[1].invokingThreadName());
+            assertEquals(Logger.warn, events[1].level);
+            assertEquals("second", events[1].formattedMessage);
+            assertEquals(1, spillFile.drainTo(events));
+            assertNull(events[0].invokingClass());
+            assertNull(events[0].invokingLineNumber());
+            assertEquals(0L, events[0].invokingEpochTime());
+            assertNull(events[0].level);
+            assertNull(events[0].formattedMessage);
+            assertTrue(spillFile.isEmpty());
+            assertEquals(0, spillFile.drainTo(events));
+        } finally {
+            spillFile.close();
+        }
+    }
+
+    @Test
+    public void fullAndWrap() {
+        // each record is 4 (length) + 1 (flags) + 4 (level) + 4 + 10 (message) = 23 bytes
+        SpillFile spillFile = SpillFile.create(System.getProperty("java.io.tmpdir"), 100L);
+        assertNotNull(spillFile);
+        try {
+            LogEvent[] events = events(1);
+            for (int i = 0; i < 4; i++) {
+                assertTrue(spillFile.append(null, Logger.info, String.format("message-%02d", i)));
+            }
+            assertFalse(spillFile.append(null, Logger.info, "message-04")); // full
+            assertFalse(spillFile.append(null, Logger.info, String.format("%0200d", 0))); // larger than the file
+            int next = 4;
+            for (int i = 0; i < 20; i++) {
+                assertEquals(1, spillFile.drainTo(events));
+                assertEquals(String.format("message-%02d", i), events[0].formattedMessage);
+                // room is only ever made by draining, so appends follow the reads around the file
+                assertTrue(spillFile.append(null, Logger.info, String.format("message-%02d", next++)));
+            }
+            assertEquals(4, spillFile.size());
+            for (int i = 20; i < 24; i++) {
+                assertEquals(1, spillFile.drainTo(events));
+                assertEquals(String.format("message-%02d", i), events[0].formattedMessage);
+            }
+            assertTrue(spillFile.isEmpty());
+        } finally {
+            spillFile.close();
+        }
+    }
+
+}
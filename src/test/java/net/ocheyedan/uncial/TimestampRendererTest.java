@@ -0,0 +1,68 @@
+package net.ocheyedan.uncial;
+
+import org.junit.Test;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+import static junit.framework.Assert.assertEquals;
+
+/**
+ * User: blangel
+ * Date: 6/14/12
+ * Time: 7:30 AM
+ */
+public class TimestampRendererTest {
+
+    private static String render(TimestampRenderer renderer, long epochMillis) {
+        StringBuilder buffer = new StringBuilder();
+        renderer.appendTo(buffer, epochMillis);
+        return buffer.toString();
+    }
+
+    private static void assertRenders(String rendererPattern, String expectedPattern) {
+        TimestampRenderer renderer = TimestampRenderer.create(rendererPattern);
+        DateTimeFormatter expected = DateTimeFormatter.ofPattern(expectedPattern);
+        // within a second, across seconds, across months (month names differ in width) and before the epoch
+        long[] starts = { 1339675200000L, 1338508799990L, -1500L };
+        for (long start : starts) {
+            for (long epochMillis = start; epochMillis < start + 2500L; epochMillis += 7L) {
+                assertEquals(expected.format(Instant.ofEpochMilli(epochMillis).atZone(ZoneId.systemDefault())),
+                        render(renderer, epochMillis));
+            }
+        }
+    }
+
+    @Test
+    public void patterns() {
+        assertRenders(null, TimestampRenderer.DEFAULT_PATTERN);
+        assertRenders("MMMM dd HH:mm:ss.SSS", "MMMM dd HH:mm:ss.SSS");
+        assertRenders("HH:mm:ss", "HH:mm:ss"); // no milliseconds
+        assertRenders("ss.SS", "ss.SS"); // milliseconds which cannot be patched
+        assertRenders("SSS SSS", "SSS SSS");
+        assertRenders(TimestampRenderer.ISO, "yyyy-MM-dd'T'HH:mm:ss.SSSXXX");
+        assertRenders("{invalid", TimestampRenderer.DEFAULT_PATTERN);
+    }
+
+    @Test
+    public void epoch() {
+        TimestampRenderer renderer = TimestampRenderer.create(TimestampRenderer.EPOCH);
+        assertEquals("1339675200123", render(renderer, 1339675200123L));
+        assertEquals("-5", render(renderer, -5L));
+    }
+
+    @Test
+    public void layout() {
+        Meta meta = new Meta.Default(TimestampRendererTest.class, "layout", 1, null, null, 1339675200123L);
+        String expected = DateTimeFormatter.ofPattern("HH:mm:ss.SSS").format(
+                Instant.ofEpochMilli(1339675200123L).atZone(ZoneId.systemDefault()));
+        Formatter.Appender formatter = new Formatter.Appender();
+        assertEquals(expected + " 1339675200123 {x} - m", formatter.format(meta, Logger.info, "m",
+                Formatter.Layout.compile("%d{HH:mm:ss.SSS} %d{epoch} {x} - %m")));
+        assertEquals(DateTimeFormatter.ofPattern(TimestampRenderer.DEFAULT_PATTERN).format(
+                Instant.ofEpochMilli(1339675200123L).atZone(ZoneId.systemDefault())) + "{", formatter.format(meta,
+                Logger.info, "m", Formatter.Layout.compile("%d{")));
+    }
+
+}
@@ -1,15 +1,27 @@
 package net.ocheyedan.uncial;
 
 import net.ocheyedan.uncial.appender.Appender;
+import net.ocheyedan.uncial.appender.ByteAppender;
+import net.ocheyedan.uncial.appender.FileAppender;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static junit.framework.Assert.assertEquals;
 import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
 import static junit.framework.Assert.assertTrue;
 
 /**
@@ -24,9 +36,7 @@ public class UncialConfigTest {
     @Before
     public void init() throws NoSuchFieldException, IllegalAccessException {
         UncialConfig config = UncialConfig.get();
-        Field appenderConfigsField = UncialConfig.class.getDeclaredField("appenderConfigs");
-        appenderConfigsField.setAccessible(true);
-        ((ConcurrentMap) appenderConfigsField.get(config)).clear();
+        config.clearAppenders();
         Field loggerConfigsField = UncialConfig.class.getDeclaredField("loggerConfigs");
         loggerConfigsField.setAccessible(true);
         ((ConcurrentMap) loggerConfigsField.get(config)).clear();
@@ -324,4 +334,91 @@ public class UncialConfigTest {
         assertFalse(uncialConfig.needsMethodName(UncialConfig.class));
     }
 
+    @Test
+    public void appenderGroups() {
+        final List<String> strings = new ArrayList<String>();
+        final List<String> bytes = new ArrayList<String>();
+        final List<String> others = new ArrayList<String>();
+        Appender stringAppender = new Appender() {
+            @Override public String getName() {
+                return "strings";
+            }
+            @Override public void handle(String message) {
+                strings.add(message);
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        };
+        Appender byteAppender = new ByteAppender() {
+            @Override public String getName() {
+                return "bytes";
+            }
+            @Override public Charset getCharset() {
+                return StandardCharsets.UTF_8;
+            }
+            @Override public void handle(ByteBuffer message) {
+                bytes.add(StandardCharsets.UTF_8.decode(message).toString());
+            }
+            @Override public void handle(String message) {
+                throw new AssertionError("Expecting the message encoded");
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        };
+        Appender otherAppender = new Appender() {
+            @Override public String getName() {
+                return "others";
+            }
+            @Override public void handle(String message) {
+                others.add(message);
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        };
+        UncialConfig config = UncialConfig.get();
+        config.addAppender(stringAppender, "%l - %m%n");
+        config.addAppender(byteAppender, "%l - %m%n");
+        config.addAppender(otherAppender, "%m");
+        UncialConfig.AppenderGroup[] appenderGroups = config.getAppenderGroups();
+        assertEquals(2, appenderGroups.length);
+        assertSame(config.getAppenderConfig(stringAppender).layout, config.getAppenderConfig(byteAppender).layout);
+
+        Meta meta = new Meta.Default(UncialConfigTest.class, null, null, null, null, 0L);
+        Distributor.InvokingThread distributor = new Distributor.InvokingThread();
+        distributor.distribute(meta, Logger.info, "caf\u00e9");
+        assertEquals(Arrays.asList("info - caf\u00e9\n"), strings);
+        assertEquals(Arrays.asList("info - caf\u00e9\n"), bytes);
+        assertEquals(Arrays.asList("caf\u00e9"), others);
+
+        config.setFormat(otherAppender, "%l - %m%n");
+        appenderGroups = config.getAppenderGroups();
+        assertEquals(1, appenderGroups.length);
+        assertEquals(3, appenderGroups[0].appenderConfigs.length);
+        distributor.distribute(meta, Logger.warn, "again");
+        assertEquals(Arrays.asList("caf\u00e9", "warn - again\n"), others);
+        assertEquals(Arrays.asList("info - caf\u00e9\n", "warn - again\n"), bytes);
+    }
+
+    @Test
+    public void overriddenStringHandle() throws IOException {
+        File file = File.createTempFile("uncial", ".log");
+        file.deleteOnExit();
+        FileAppender decorating = new FileAppender(file, StandardCharsets.UTF_8) {
+            @Override public void handle(String message) {
+                super.handle("decorated " + message);
+            }
+        };
+        FileAppender plain = new FileAppender(file, StandardCharsets.UTF_8);
+        assertFalse(UncialConfig.AppenderConfig.handlesBytes(decorating));
+        assertTrue(UncialConfig.AppenderConfig.handlesBytes(plain));
+
+        UncialConfig.get().addAppender(decorating, "%m%n");
+        Meta meta = new Meta.Default(UncialConfigTest.class, null, null, null, null, 0L);
+        new Distributor.InvokingThread().distribute(meta, Logger.info, "caf\u00e9");
+        decorating.close();
+        plain.close();
+        // not bypassed by the framework handing the message encoded
+        assertEquals("decorated caf\u00e9\n", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+    }
+
 }
@@ -216,6 +216,37 @@ public class AppenderFormatImplBenchmark extends SimpleBenchmark {
         return value;
     }
 
+    private static final Formatter.Appender formatter = new Formatter.Appender();
+
+    private static final Formatter.Layout compiledFormat = Formatter.Layout.compile(appenderFormat);
+
+    public int timeLogger_interpreted(int reps) {
+        int value = 0;
+        for (int i = 0; i < reps; i++) {
+            value += formatter.format(meta, level, message, appenderFormat).hashCode();
+        }
+        return value;
+    }
+
+    public int timeLogger_compiled(int reps) {
+        int value = 0;
+        for (int i = 0; i < reps; i++) {
+            value += formatter.format(meta, level, message, compiledFormat).hashCode();
+        }
+        return value;
+    }
+
+    private static final Formatter.Layout compiledIsoFormat = Formatter.Layout.compile(
+            "%d{iso} %t %F %C#%M @ %L [%l] - %m%n");
+
+    public int timeLogger_compiledIso(int reps) {
+        int value = 0;
+        for (int i = 0; i < reps; i++) {
+            value += formatter.format(meta, level, message, compiledIsoFormat).hashCode();
+        }
+        return value;
+    }
+
     public static void main(String[] args) throws Exception {
         Runner.main(AppenderFormatImplBenchmark.class, args);
     }
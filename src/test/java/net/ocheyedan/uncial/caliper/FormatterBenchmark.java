@@ -13,6 +13,8 @@ public class FormatterBenchmark extends SimpleBenchmark {
 
     private final Formatter formatter = new Formatter.Printf();
 
+    private final Formatter slf4jFormatter = new Formatter.Slf4j();
+
     public int timeFormatter_standard(int reps) {
         int value = 0;
         for (int i = 0; i < reps; i++) {
@@ -29,6 +31,30 @@ public class FormatterBenchmark extends SimpleBenchmark {
         return value;
     }
 
+    public int timeFormatter_standardConversions(int reps) {
+        int value = 0;
+        for (int i = 0; i < reps; i++) {
+            value += String.format("user %s logged in %d times (session %x)%n", "hello!", i, i).hashCode();
+        }
+        return value;
+    }
+
+    public int timeFormatter_reuseConversions(int reps) {
+        int value = 0;
+        for (int i = 0; i < reps; i++) {
+            value += formatter.format("user %s logged in %d times (session %x)%n", "hello!", i, i).hashCode();
+        }
+        return value;
+    }
+
+    public int timeFormatter_reuseUnsupported(int reps) {
+        int value = 0;
+        for (int i = 0; i < reps; i++) {
+            value += formatter.format("my format %10s", "hello!").hashCode();
+        }
+        return value;
+    }
+
     private final String format = "my format %s";
     private final Object[] args = new Object[] { "hello!" };
     public int timeFormatter_custom(int reps) {
@@ -72,6 +98,14 @@ public class FormatterBenchmark extends SimpleBenchmark {
         return value;
     }
 
+    public int timeFormatter_slf4j(int reps) {
+        int value = 0;
+        for (int i = 0; i < reps; i++) {
+            value += slf4jFormatter.format("my format {}", "hello!").hashCode();
+        }
+        return value;
+    }
+
     public static void main(String[] args) throws Exception {
         Runner.main(FormatterBenchmark.class, args);
     }
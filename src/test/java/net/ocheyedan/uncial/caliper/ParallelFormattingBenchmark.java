@@ -0,0 +1,86 @@
+package net.ocheyedan.uncial.caliper;
+
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
+import net.ocheyedan.uncial.Distribution;
+import net.ocheyedan.uncial.Logger;
+import net.ocheyedan.uncial.Loggers;
+import net.ocheyedan.uncial.UncialConfig;
+import net.ocheyedan.uncial.appender.Appender;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * User: blangel
+ * Date: 6/13/12
+ * Time: 7:25 AM
+ *
+ * {@link com.google.caliper.Benchmark} of the time taken, with an expensive appender format, for events logged by
+ * several threads to reach the appender; i.e., the throughput of the appender side rather than the cost to the logging
+ * threads.  Compares the single appender thread of {@link Distribution#RING_BUFFER} with the formatting threads of
+ * {@link Distribution#PARALLEL_FORMATTING} (sized via {@literal uncial.formattingThreads}).
+ */
+public class ParallelFormattingBenchmark extends SimpleBenchmark {
+
+    private static final String ExpensiveFormat = "%d %t %F %C#%M @ %L [%l] - %m%n";
+
+    private static final int THREADS = 4;
+
+    private static final AtomicLong handled = new AtomicLong(0L);
+
+    static {
+        UncialConfig.get().addAppender(new Appender() {
+            @Override public String getName() {
+                return "counting";
+            }
+            @Override public void handle(String message) {
+                // the ring buffer hands over batches of events as one message
+                int events = 0;
+                for (int i = message.indexOf('\n'); i != -1; i = message.indexOf('\n', i + 1)) {
+                    events++;
+                }
+                handled.addAndGet(events);
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        }, ExpensiveFormat);
+    }
+
+    private static final Logger log = Loggers.get(ParallelFormattingBenchmark.class);
+
+    @Param({ "RING_BUFFER", "PARALLEL_FORMATTING" })
+    private Distribution distribution;
+
+    @Override protected void setUp() throws Exception {
+        UncialConfig.get().setDistribution(distribution);
+    }
+
+    public void timeExpensiveFormat(int reps) throws Exception {
+        final int perThread = Math.max(1, reps / THREADS);
+        long expected = handled.get() + ((long) perThread * THREADS);
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = new Thread(new Runnable() {
+                @Override public void run() {
+                    for (int i = 0; i < perThread; i++) {
+                        log.info("My message is %s", "Hello!");
+                    }
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        while (handled.get() < expected) {
+            LockSupport.parkNanos(10000L);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        Runner.main(ParallelFormattingBenchmark.class, args);
+    }
+
+}
@@ -0,0 +1,123 @@
+package net.ocheyedan.uncial.caliper;
+
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
+import net.ocheyedan.uncial.Distribution;
+import net.ocheyedan.uncial.Logger;
+import net.ocheyedan.uncial.Loggers;
+import net.ocheyedan.uncial.UncialConfig;
+import net.ocheyedan.uncial.appender.Appender;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadInfo;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * User: blangel
+ * Date: 6/10/12
+ * Time: 6:05 PM
+ *
+ * {@link com.google.caliper.Benchmark} of 10k virtual threads logging concurrently to an appender which, like many,
+ * synchronizes on a monitor.  Virtual threads are started reflectively so this requires a {@literal JVM} which supports
+ * them (otherwise there is nothing to measure).  As {@literal caliper} cannot measure how busy the carrier threads are,
+ * {@link #main(String[])} first prints, for each {@link Distribution}, the throughput and the utilization of the
+ * carrier threads (their CPU time relative to the wall time for which they were available).
+ */
+public class VirtualThreadBenchmark extends SimpleBenchmark {
+
+    private static final int THREADS = 10000;
+
+    private static final int MESSAGES_PER_THREAD = 10;
+
+    static {
+        UncialConfig.get().addAppender(new Appender() {
+            @Override public String getName() {
+                return "synchronized";
+            }
+            @Override public synchronized void handle(String message) {
+                LockSupport.parkNanos(1000L); // e.g., a write to a slow device
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        });
+    }
+
+    private static final Logger log = Loggers.get(VirtualThreadBenchmark.class);
+
+    @Param({ "SINGLE_THREADED", "VIRTUAL_THREADS", "RING_BUFFER" })
+    private Distribution distribution;
+
+    @Override protected void setUp() throws Exception {
+        UncialConfig.get().setDistribution(distribution);
+    }
+
+    public void timeVirtualThreads(int reps) throws Exception {
+        for (int i = 0; i < reps; i++) {
+            runVirtualThreads();
+        }
+    }
+
+    /**
+     * Starts {@link #THREADS} virtual threads each logging {@link #MESSAGES_PER_THREAD} messages and waits for them to
+     * complete.
+     */
+    private static void runVirtualThreads() throws Exception {
+        Method ofVirtual = Thread.class.getMethod("ofVirtual");
+        Method start = Class.forName("java.lang.Thread$Builder").getMethod("start", Runnable.class);
+        Runnable logging = new Runnable() {
+            @Override public void run() {
+                for (int i = 0; i < MESSAGES_PER_THREAD; i++) {
+                    log.info("My message %d", i);
+                }
+            }
+        };
+        Thread[] threads = new Thread[THREADS];
+        for (int i = 0; i < THREADS; i++) {
+            threads[i] = (Thread) start.invoke(ofVirtual.invoke(null), logging);
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+    }
+
+    /**
+     * @return the CPU time consumed by the carrier threads of the virtual thread scheduler.
+     */
+    private static long carrierCpuTime(ThreadMXBean threads) {
+        long total = 0L;
+        for (ThreadInfo info : threads.getThreadInfo(threads.getAllThreadIds())) {
+            if ((info != null) && info.getThreadName().startsWith("ForkJoinPool-")) {
+                long time = threads.getThreadCpuTime(info.getThreadId());
+                if (time > 0L) {
+                    total += time;
+                }
+            }
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads.isThreadCpuTimeSupported()) {
+            threads.setThreadCpuTimeEnabled(true);
+            int carriers = Runtime.getRuntime().availableProcessors();
+            runVirtualThreads(); // warm up, and start the carrier threads
+            for (Distribution distribution : new Distribution[] { Distribution.SINGLE_THREADED,
+                    Distribution.VIRTUAL_THREADS, Distribution.RING_BUFFER }) {
+                UncialConfig.get().setDistribution(distribution);
+                long startCpu = carrierCpuTime(threads);
+                long start = System.nanoTime();
+                runVirtualThreads();
+                long wall = System.nanoTime() - start;
+                long cpu = carrierCpuTime(threads) - startCpu;
+                System.out.printf("%s: %.0f messages/s, carrier utilization %.1f%%%n", distribution,
+                        ((THREADS * MESSAGES_PER_THREAD) / (wall / 1e9d)), ((100d * cpu) / ((double) wall * carriers)));
+            }
+        }
+        Runner.main(VirtualThreadBenchmark.class, args);
+    }
+
+}
@@ -0,0 +1,120 @@
+package net.ocheyedan.uncial.caliper;
+
+import com.google.caliper.Param;
+import com.google.caliper.Runner;
+import com.google.caliper.SimpleBenchmark;
+import net.ocheyedan.uncial.Logger;
+import net.ocheyedan.uncial.Loggers;
+import net.ocheyedan.uncial.UncialConfig;
+import net.ocheyedan.uncial.WaitStrategy;
+import net.ocheyedan.uncial.appender.Appender;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * User: blangel
+ * Date: 6/7/12
+ * Time: 9:10 AM
+ *
+ * {@link com.google.caliper.Benchmark} of the wakeup latency of each {@link WaitStrategy}; i.e., the time from a log
+ * invocation until the appender thread has handled the event.  The {@literal afterIdle} variant lets the appender
+ * thread fall idle for a fixed period before each event (the period is the same for every strategy so only the
+ * difference between strategies is meaningful).  As {@literal caliper} cannot measure the CPU consumed by other
+ * threads, {@link #main(String[])} first prints the CPU consumed by an idle appender thread for each strategy.
+ */
+public class WaitStrategyBenchmark extends SimpleBenchmark {
+
+    private static final AtomicLong handled = new AtomicLong(0L);
+
+    static {
+        UncialConfig.get().addAppender(new Appender() {
+            @Override public String getName() {
+                return "counting";
+            }
+            @Override public void handle(String message) {
+                handled.incrementAndGet();
+            }
+            @Override public void close() { }
+            @Override public void flush() { }
+        });
+    }
+
+    private static final long IDLE_NANOS = TimeUnit.MICROSECONDS.toNanos(200L);
+
+    private final Logger log = Loggers.get(WaitStrategyBenchmark.class);
+
+    @Param
+    private WaitStrategy waitStrategy;
+
+    @Override protected void setUp() throws Exception {
+        UncialConfig.get().setWaitStrategy(waitStrategy);
+    }
+
+    public long timeWakeup(int reps) {
+        long value = 0L;
+        for (int i = 0; i < reps; i++) {
+            value += logAndAwait();
+        }
+        return value;
+    }
+
+    public long timeWakeup_afterIdle(int reps) {
+        long value = 0L;
+        for (int i = 0; i < reps; i++) {
+            LockSupport.parkNanos(IDLE_NANOS);
+            value += logAndAwait();
+        }
+        return value;
+    }
+
+    private long logAndAwait() {
+        long expected = handled.get() + 1L;
+        log.info("My message");
+        long count;
+        while ((count = handled.get()) < expected) {
+            Thread.yield();
+        }
+        return count;
+    }
+
+    /**
+     * @return the CPU time consumed by all threads other than the calling thread.
+     */
+    private static long otherThreadsCpuTime(ThreadMXBean threads) {
+        long self = Thread.currentThread().getId();
+        long total = 0L;
+        for (long id : threads.getAllThreadIds()) {
+            if (id == self) {
+                continue;
+            }
+            long time = threads.getThreadCpuTime(id);
+            if (time > 0L) {
+                total += time;
+            }
+        }
+        return total;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads.isThreadCpuTimeSupported()) {
+            threads.setThreadCpuTimeEnabled(true);
+            Logger log = Loggers.get(WaitStrategyBenchmark.class);
+            for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+                UncialConfig.get().setWaitStrategy(waitStrategy);
+                log.info("My message"); // ensure the appender thread is running and has observed the strategy
+                Thread.sleep(100L);
+                long start = otherThreadsCpuTime(threads);
+                Thread.sleep(1000L);
+                long idle = otherThreadsCpuTime(threads) - start;
+                System.out.printf("%s idle CPU: %.1f%%%n", waitStrategy, (idle / 1e7d));
+            }
+        }
+        Runner.main(WaitStrategyBenchmark.class, args);
+    }
+
+}